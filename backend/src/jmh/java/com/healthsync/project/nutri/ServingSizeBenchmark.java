@@ -0,0 +1,62 @@
+package com.healthsync.project.nutri;
+
+import com.healthsync.project.nutri.dto.ServingSize;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 중량 문자열 파싱: 기존 정규식 경로 vs 수기 스캐너 vs memo.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServingSizeBenchmark {
+
+    private static final Pattern PRECOMPILED =
+            Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*g", Pattern.CASE_INSENSITIVE);
+
+    private final String[] inputs = {
+            "100g", "1회(30g)", "1포(45 g)", "1회 제공량(200 g)", "2개(120G)", "1.5kg", "100ml", "1회 제공량"
+    };
+
+    /** 기존 NutriService.parseServingToGrams (호출마다 Pattern.compile + BigDecimal) */
+    @Benchmark
+    public void legacyRegex(Blackhole bh) {
+        for (String s : inputs) {
+            Matcher m = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*g", Pattern.CASE_INSENSITIVE).matcher(s);
+            BigDecimal last = null;
+            while (m.find()) last = new BigDecimal(m.group(1));
+            bh.consume(last);
+        }
+    }
+
+    /** 정규식만 미리 컴파일한 경우 (스캐너와의 공정 비교용) */
+    @Benchmark
+    public void precompiledRegex(Blackhole bh) {
+        for (String s : inputs) {
+            Matcher m = PRECOMPILED.matcher(s);
+            float last = Float.NaN;
+            while (m.find()) last = Float.parseFloat(m.group(1));
+            bh.consume(last);
+        }
+    }
+
+    @Benchmark
+    public void scanner(Blackhole bh) {
+        for (String s : inputs) bh.consume(ServingSize.scan(s));
+    }
+
+    @Benchmark
+    public void scannerMemo(Blackhole bh) {
+        for (String s : inputs) bh.consume(ServingSize.grams(s));
+    }
+}
@@ -2,7 +2,11 @@ package com.healthsync.project.account.profile.repository;
 
 import com.healthsync.project.account.profile.domain.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,4 +15,8 @@ import java.util.Optional;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findByUserId(Long userId);
+
+    /** 게시글 목록 작성자 아바타용: {userId, profileImageUrl, updatedAt} */
+    @Query("select pr.userId, pr.profileImageUrl, pr.updatedAt from Profile pr where pr.userId in :userIds")
+    List<Object[]> findImagesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -22,4 +24,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     //  추가: 닉네임으로 PK(id)만 빠르게 조회 (닉네임 UNIQUE 전제)
     @Query("select u.id from User u where u.nickname = :nickname")
     Optional<Long> findIdByNickname(@Param("nickname") String nickname);
+
+    /** 게시글 목록 작성자 표시용: {id, nickname, name} 를 한 번에 */
+    @Query("select u.id, u.nickname, u.name from User u where u.id in :ids")
+    List<Object[]> findDisplayNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,15 @@
+package com.healthsync.project.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProps.class)
+public class HttpClientConfig {
+
+    @Bean
+    public PooledHttpClientFactory pooledHttpClientFactory(HttpClientProps props) {
+        return new PooledHttpClientFactory(props);
+    }
+}
@@ -0,0 +1,36 @@
+package com.healthsync.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 호출용 HTTP 커넥션 풀 설정. 이름별(nutri, openai ...)로 분리.
+ * 예) http-client.pools.nutri.max-per-route=20
+ */
+@Data
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProps {
+
+    private Map<String, Pool> pools = new HashMap<>();
+
+    public Pool pool(String name) {
+        return pools.computeIfAbsent(name, k -> new Pool());
+    }
+
+    @Data
+    public static class Pool {
+        private boolean pooled = true;                            // false 면 기존 HttpURLConnection 방식
+        private int maxTotal = 50;
+        private int maxPerRoute = 20;                             // 호스트(라우트)당 동시 커넥션
+        private Duration connectTimeout = Duration.ofSeconds(5);  // TCP/TLS 연결
+        private Duration readTimeout = Duration.ofSeconds(30);    // 응답 대기(소켓)
+        private Duration poolAcquireTimeout = Duration.ofSeconds(2); // 풀에서 커넥션 빌려오기 대기
+        private Duration keepAlive = Duration.ofMinutes(1);       // 서버가 Keep-Alive 헤더를 안 줄 때 재사용 기간
+        private Duration idleEvict = Duration.ofSeconds(30);      // 유휴 커넥션 정리 주기
+        private boolean followRedirects = true;
+    }
+}
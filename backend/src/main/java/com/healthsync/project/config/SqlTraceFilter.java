@@ -0,0 +1,58 @@
+package com.healthsync.project.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * X-Sql-Trace: on 헤더가 붙은 요청만 SQL 로그를 남김 (application.yml 전역 debug/trace 대체).
+ * - 요청 스레드 MDC 에 sqlTrace=on → SqlTraceTurboFilter 가 hibernate SQL 로거를 열어 줌
+ * - app.sql-trace.enabled=true 일 때만 등록 (운영에서는 끔)
+ * 바인드 값(orm.jdbc.bind) 로그는 Hibernate 가 기동 시 trace 여부를 고정하므로 요청 단위로는 SQL 문만 보장됨.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql-trace.enabled", havingValue = "true")
+public class SqlTraceFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Sql-Trace";
+
+    @PostConstruct
+    void install() {
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext ctx
+                && ctx.getTurboFilterList().stream().noneMatch(f -> f instanceof SqlTraceTurboFilter)) {
+            SqlTraceTurboFilter f = new SqlTraceTurboFilter();
+            f.setContext(ctx);
+            f.start();
+            ctx.addTurboFilter(f);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        String v = req.getHeader(HEADER);
+        if (!("on".equalsIgnoreCase(v) || "1".equals(v) || "true".equalsIgnoreCase(v))) {
+            chain.doFilter(req, res);
+            return;
+        }
+        MDC.put(SqlTraceTurboFilter.MDC_KEY, "on");
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            MDC.remove(SqlTraceTurboFilter.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.healthsync.project.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * 요청 단위 SQL 로그 스위치.
+ * - 전역 레벨은 INFO 로 두고, MDC sqlTrace=on 인 스레드에서만 org.hibernate.SQL(debug) 을 통과시킴
+ * - 그 외 로거/스레드는 NEUTRAL → 평소 레벨 판정 그대로 (비용 = MDC 조회 1번)
+ */
+public class SqlTraceTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "sqlTrace";
+    static final String[] LOGGERS = {"org.hibernate.SQL", "org.hibernate.orm.jdbc.bind"};
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.isGreaterOrEqual(Level.INFO)) return FilterReply.NEUTRAL;
+        String name = logger.getName();
+        for (String prefix : LOGGERS) {
+            if (name.startsWith(prefix)) {
+                return "on".equals(MDC.get(MDC_KEY)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -3,6 +3,7 @@ package com.healthsync.project.nutri.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,10 +15,109 @@ public class DataGoKrProps {
     private String serviceKey; // 공통 키
     private Map<String, String> defaultParams = new HashMap<>();
     private Map<String, Api> apis = new HashMap<>();
+    private Catalog catalog = new Catalog();
+    private Fanout fanout = new Fanout();
+    private Cache cache = new Cache();
+    private Resilience resilience = new Resilience();
+    private Popularity popularity = new Popularity();
+    private Quota quota = new Quota();
+    private CallLog callLog = new CallLog();
 
     @Data
     public static class Api {
         private String path;
         private String serviceKey; // 있으면 개별 override
+        private Duration cacheTtl;  // 없으면 cache.ttl
+        private Integer maxConcurrent; // 없으면 resilience.max-concurrent
+        private Double perSecond;      // 없으면 quota.per-second
+        private Long dailyLimit;       // 없으면 quota.daily-limit (활용신청 승인 트래픽)
     }
-}
\ No newline at end of file
+
+    /** 로컬 카탈로그(전체 데이터셋 적재 + 메모리 색인) */
+    @Data
+    public static class Catalog {
+        private boolean enabled = true;
+        private String refreshCron = "0 30 3 * * *"; // 매일 03:30 (Asia/Seoul) 증분 동기화
+        private int pageSize = 1000;                 // data.go.kr numOfRows 최대치
+        private int maxPages = 500;                  // 소스당 1회 동기화 상한
+        private int searchLimit = 100;
+        private boolean liveFallback = true;         // 로컬에 결과 없으면 실시간 API로 폴백
+        // 오프라인 일괄 적재 (공식 다운로드 파일 CSV/JSON) — import-file 이 있을 때만 기동 시 실행
+        private String importFile;
+        private String importSource = "food";        // 파일이 속한 데이터셋
+        private String importCharset = "UTF-8";      // 포털 CSV 는 EUC-KR(MS949)인 경우가 많음
+        private int importChunkSize = 2_000;
+    }
+
+    /** 여러 API 동시 호출(scatter-gather)용 풀 */
+    @Data
+    public static class Fanout {
+        private int threads = 16;                          // 동시에 나가는 data.go.kr 호출 상한
+        private int queueCapacity = 200;                   // 초과분은 호출 스레드에서 직접 실행(CallerRuns)
+        private Duration timeout = Duration.ofSeconds(30); // 한 번의 fan-out 전체 대기 상한
+        private int batchParallelism = 4;                  // 배치 kcal 조회 시 동시에 처리할 이름 수 = nutri-batch 풀 크기 (이름당 API 3개)
+    }
+
+    /** getItems/getRecords 응답 캐시 */
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+        private Duration ttl = Duration.ofHours(6);          // API별 cache-ttl 미지정 시 기본값
+        private Duration negativeTtl = Duration.ofMinutes(10); // NODATA(03/10) 결과 보관 시간
+        private int maxEntries = 5_000;
+        private Duration maxStale = Duration.ofDays(1);       // 장애 시 만료 후에도 이 기간까지는 stale 응답 허용
+    }
+
+    /** API별 서킷 브레이커 / 벌크헤드 / 적응형 타임아웃 */
+    @Data
+    public static class Resilience {
+        private boolean enabled = true;
+        // circuit breaker (최근 windowSize 건 기준 실패율)
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;                   // %
+        private Duration openDuration = Duration.ofSeconds(30);  // OPEN 유지 후 HALF_OPEN 으로
+        private int halfOpenProbes = 1;                          // HALF_OPEN 에서 동시에 허용할 시험 호출 수
+        // bulkhead
+        private int maxConcurrent = 8;                           // API별 동시 outbound 호출 상한
+        // adaptive timeout = clamp(p{percentile} × multiplier, minTimeout, maxTimeout)
+        private double percentile = 0.99;
+        private double multiplier = 2.0;
+        private int latencySamples = 200;                        // 최근 N건 지연으로 분위수 계산
+        private Duration minTimeout = Duration.ofSeconds(2);
+        private Duration maxTimeout = Duration.ofSeconds(20);    // 표본이 모이기 전에는 이 값
+    }
+
+    /** 사용 빈도 추적(count-min sketch) + 상위 N 웜 티어 */
+    @Data
+    public static class Popularity {
+        private boolean enabled = true;
+        private int depth = 4;
+        private int width = 4_096;                              // 행당 카운터 수 (2의 거듭제곱으로 올림)
+        private long decaySample = 0;                           // 누적 추가량이 이만큼 쌓이면 절반 감쇠 (0 = width × 10)
+        private int selectionWeight = 4;                        // FoodSelection 저장 1건 = 검색 적중 4건
+        private int topN = 200;                                 // 웜 티어에 미리 올려 둘 식품 수
+        private Duration refreshInterval = Duration.ofMinutes(1); // 웜 티어 재계산 주기
+    }
+
+    /** 서비스키 × API 별 호출 예산 (초당 token bucket + 일일 한도) */
+    @Data
+    public static class Quota {
+        private boolean enabled = true;
+        private double perSecond = 20;                                  // 초당 평균 호출 수
+        private int burst = 20;                                         // 순간 최대
+        private long dailyLimit = 10_000;                               // 개발계정 기본 트래픽
+        private double backgroundReserve = 0.2;                         // 일일 잔여가 이 비율 이하면 백그라운드 호출 중단
+        private double backgroundBurstReserve = 0.25;                   // 백그라운드는 버킷의 이 비율을 사용자 몫으로 남김
+        private double degradeAt = 0.02;                                // 일일 잔여가 이 비율 이하면 cache-only
+        private Duration interactiveMaxWait = Duration.ofMillis(300);   // 사용자 요청은 짧게 기다리고 거절
+        private Duration backgroundMaxWait = Duration.ofSeconds(60);    // 백그라운드는 줄 서서 기다림
+    }
+
+    /** outbound 호출 이벤트 로그 (logger nutri.outbound) */
+    @Data
+    public static class CallLog {
+        private double sampleRate = 0.05;                       // 정상 호출 중 INFO 로 남길 비율
+        private Duration slowThreshold = Duration.ofSeconds(3); // 이 이상 걸리면 샘플링 무관 WARN
+    }
+}
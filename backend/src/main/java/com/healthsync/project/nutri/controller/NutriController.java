@@ -1,14 +1,25 @@
 package com.healthsync.project.nutri.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 //import com.healthsync.project.nutri.dto.NutriInfoDto;
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import com.healthsync.project.nutri.dto.AutocompleteItem;
 import com.healthsync.project.nutri.service.NutriApiClient;
+import com.healthsync.project.nutri.service.NutriAutocomplete;
+import com.healthsync.project.nutri.service.NutriCatalogService;
+import com.healthsync.project.nutri.service.NutriFanout;
+import com.healthsync.project.nutri.service.NutriHttpCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -17,15 +28,20 @@ import java.util.Map;
 @RequestMapping("/api/nutri")
 public class NutriController {
     private final NutriApiClient client;
+    private final NutriCatalogService catalog;
+    private final NutriFanout fanout;
+    private final NutriAutocomplete autocomplete;
+    private final NutriHttpCache httpCache;
+    private final DataGoKrProps props;
 
     // 1) 원본 API 프록시 (디버그/확인용)
     // 예: /nutri/food?foodNm=아몬드&type=json&pageNo=1&numOfRows=10
 
-    // search, kcal 과 충돌 방지 (선택이지만 권장)
-    @GetMapping(path = "/{api:^(?!search$|kcal$).+}")
+    // search, kcal, autocomplete 과 충돌 방지 (선택이지만 권장)
+    @GetMapping(path = "/{api:^(?!search$|kcal$|autocomplete$).+}")
     public ResponseEntity<JsonNode> proxy(@PathVariable String api, @RequestParam Map<String, String> q) throws Exception {
         JsonNode items = client.getItems(api, q);
-        return ResponseEntity.ok(items);
+        return ok(items);
     }
 
     // 2) 통합 검색 (라면/아몬드 등 이름으로)
@@ -33,27 +49,63 @@ public class NutriController {
     @GetMapping("/search")
     public ResponseEntity<JsonNode> search(
             @RequestParam(name = "q", required = false) String q,
-            @RequestParam(name = "name", required = false) String name
+            @RequestParam(name = "name", required = false) String name,
+            WebRequest request
     ) throws Exception {
         String term = (q != null && !q.isBlank()) ? q : name;
         if (term == null || term.isBlank()) {
             return ResponseEntity.badRequest().build();
         }
-        // approved → food → processed → material 순차 시도
-        String[][] plan = {
-                {"approved", "DESC_KOR"},
-                {"food", "foodNm"},
-                {"processed", "prdlstNm"},
-                {"material", "MATRL_NM"}
-        };
-        for (String[] step : plan) {
-            Map<String, String> f = new LinkedHashMap<>();
-            f.put(step[1], term);
-            JsonNode arr = client.getItems(step[0], f);
-            if (arr.isArray() && arr.size() > 0) return ResponseEntity.ok(arr);
+        // 0) 로컬 카탈로그 색인 우선 (적재돼 있으면 data.go.kr 호출 없음)
+        if (catalog.isReady()) {
+            int limit = props.getCatalog().getSearchLimit();
+            List<NutritionRecord> hits = catalog.search(term, limit);
+            // 카탈로그가 답할 때만 카탈로그 ETag 를 씀 (checkNotModified 는 응답에 ETag 를 바로 기록하므로 폴백 전에 부르면 안 됨)
+            if (!hits.isEmpty() || !props.getCatalog().isLiveFallback()) {
+                String etag = httpCache.catalogEtag("search", term, limit);
+                // 같은 색인 버전 + 같은 질의면 본문 직렬화를 생략하고 304
+                if (request.checkNotModified(etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(httpCache.catalogCacheControl()).build();
+                }
+                return ResponseEntity.ok().eTag(etag).cacheControl(httpCache.catalogCacheControl()).body(catalog.toJson(hits));
+            }
         }
+        // approved → food → processed → material 동시 호출, 우선순위 순으로 병합
+        ArrayNode arr = fanout.firstNonEmpty(List.of(
+                step("approved", "DESC_KOR", term),
+                step("food", "foodNm", term),
+                step("processed", "prdlstNm", term),
+                step("material", "MATRL_NM", term)
+        ));
         // 전부 NODATA면 빈 배열
-        return ResponseEntity.ok(client.getItems("approved", Map.of("DESC_KOR", "__NODATA__"))); // 빈 배열 보장 트릭
+        return ok(arr);
+    }
+
+    /** 실시간 응답: 내용 해시 ETag + 짧은 고정 Cache-Control (If-None-Match 일치 시 304 는 Spring MVC 가 처리) */
+    private ResponseEntity<JsonNode> ok(JsonNode body) {
+        return ResponseEntity.ok()
+                .eTag(NutriHttpCache.contentEtag(body))
+                .cacheControl(httpCache.liveCacheControl())
+                .body(body);
+    }
+
+    // 2-1) 입력 중 자동완성 (메모리 prefix 구조만 조회, 외부 호출 없음)
+    // 예: /nutri/autocomplete?q=닭가&limit=10
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteItem>> autocomplete(
+            @RequestParam(name = "q") String q,
+            @RequestParam(name = "limit", defaultValue = "" + NutriAutocomplete.DEFAULT_LIMIT) int limit
+    ) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(autocomplete.complete(q, limit));
+    }
+
+    private static NutriFanout.Step step(String api, String key, String term) {
+        Map<String, String> f = new LinkedHashMap<>();
+        f.put(key, term);
+        return new NutriFanout.Step(api, f);
     }
 
     // 3) kcal 전용 (필요 시)
@@ -70,7 +122,7 @@ public class NutriController {
         Map<String, String> f = new LinkedHashMap<>();
         f.put("DESC_KOR", term); // 우선 approved 기준
         JsonNode arr = client.getItems("approved", f);
-        return ResponseEntity.ok(arr);
+        return ok(arr);
     }
 }
 
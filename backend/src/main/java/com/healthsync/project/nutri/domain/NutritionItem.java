@@ -0,0 +1,88 @@
+package com.healthsync.project.nutri.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * data.go.kr 영양정보 4개 데이터셋(approved/food/processed/material)을 로컬에 적재한 카탈로그 행.
+ * - (source, food_code) 유니크 → 재적재 시 upsert
+ * - 검색은 DB가 아니라 NutriCatalogIndex(메모리 n-gram 색인)에서 처리
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "nutrition_item",
+        uniqueConstraints = @UniqueConstraint(name = "ux_nutri_item_src_code", columnNames = {"source", "food_code"}),
+        indexes = {
+                @Index(name = "ix_nutri_item_name", columnList = "food_name")
+        })
+public class NutritionItem {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)              private String source;   // approved|food|processed|material
+    @Column(name = "food_code", nullable = false, length = 100) private String foodCode;
+    @Column(name = "food_name", nullable = false, length = 200) private String foodName;
+
+    @Column(name = "kcal")      private Double kcal;
+    @Column(name = "carbs_g")   private Double carbsG;
+    @Column(name = "protein_g") private Double proteinG;
+    @Column(name = "fat_g")     private Double fatG;
+    @Column(name = "sodium_mg") private Double sodiumMg;
+
+    @Column(name = "serving", length = 100)  private String serving;   // 예: "100g", "1회(30g)"
+    @Column(name = "maker", length = 200)    private String maker;     // 제조사/업체명(있을 때만)
+
+    @Column(name = "row_checksum") private Long rowChecksum; // 내용 해시 (재적재 시 바뀐 행만 upsert)
+
+    @Column(name = "updated_at", nullable = false) private LocalDateTime updatedAt;
+
+    @PrePersist @PreUpdate
+    void touch() {
+        updatedAt = LocalDateTime.now();
+        rowChecksum = checksum(foodName, kcal, carbsG, proteinG, fatG, sodiumMg, serving, maker);
+    }
+
+    @Builder
+    public NutritionItem(String source, String foodCode, String foodName,
+                         Double kcal, Double carbsG, Double proteinG, Double fatG, Double sodiumMg,
+                         String serving, String maker) {
+        this.source = source; this.foodCode = foodCode; this.foodName = foodName;
+        this.kcal = kcal; this.carbsG = carbsG; this.proteinG = proteinG; this.fatG = fatG; this.sodiumMg = sodiumMg;
+        this.serving = serving; this.maker = maker;
+    }
+
+    /** 식별자(source/code)를 뺀 내용 해시 (FNV-1a 64). JDBC 일괄 적재기와 같은 함수를 사용 */
+    public static long checksum(String foodName, Double kcal, Double carbsG, Double proteinG, Double fatG,
+                                Double sodiumMg, String serving, String maker) {
+        long h = 0xcbf29ce484222325L;
+        for (Object v : new Object[]{foodName, kcal, carbsG, proteinG, fatG, sodiumMg, serving, maker}) {
+            String s = v == null ? "\u0000" : v.toString();
+            for (int i = 0; i < s.length(); i++) {
+                h ^= s.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            h ^= 0x1f; // 필드 구분자
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /** 원격 값과 다를 때만 갱신하고 변경 여부를 돌려줌(증분 동기화용) */
+    public boolean updateFrom(NutritionItem o) {
+        boolean same = Objects.equals(foodName, o.foodName)
+                && Objects.equals(kcal, o.kcal) && Objects.equals(carbsG, o.carbsG)
+                && Objects.equals(proteinG, o.proteinG) && Objects.equals(fatG, o.fatG)
+                && Objects.equals(sodiumMg, o.sodiumMg)
+                && Objects.equals(serving, o.serving) && Objects.equals(maker, o.maker);
+        if (same) return false;
+        this.foodName = o.foodName;
+        this.kcal = o.kcal; this.carbsG = o.carbsG; this.proteinG = o.proteinG; this.fatG = o.fatG;
+        this.sodiumMg = o.sodiumMg; this.serving = o.serving; this.maker = o.maker;
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.healthsync.project.nutri.dto;
+
+/**
+ * 자동완성 한 줄.
+ * - text: 표시할 이름 (카탈로그 식품명 또는 사용자가 저장했던 라벨)
+ * - kcal: 카탈로그는 제공량 기준 열량, 라벨 이력은 저장 당시 kcal (없으면 null)
+ * - source: approved/food/processed/material 또는 "history"
+ * - foodCd: 카탈로그 식품코드 (라벨 이력은 null)
+ */
+public record AutocompleteItem(String text, Integer kcal, String source, String foodCd) {}
@@ -0,0 +1,61 @@
+package com.healthsync.project.nutri.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.healthsync.project.nutri.domain.NutritionItem;
+
+/**
+ * 영양정보 한 건의 불변 표현 (파싱은 수집 시점에 한 번만).
+ * - 수치는 primitive float, 값 없음 = NaN (박싱/문자열 재파싱 없음)
+ * - source/category 는 종류가 몇 개 안 되므로 intern 해서 공유
+ * - JSON 키는 프론트가 이미 쓰는 원본 키(foodNm/enerc/...)를 그대로 사용
+ */
+public record NutritionRecord(
+        @JsonProperty("source")   String source,   // approved|food|processed|material
+        @JsonProperty("category") String category, // 식품 분류명 (없을 수 있음)
+        @JsonProperty("foodCd")   String code,
+        @JsonProperty("foodNm")   String name,
+        @JsonProperty("enerc")    float kcal,
+        @JsonProperty("chocdf")   float carbsG,
+        @JsonProperty("prot")     float proteinG,
+        @JsonProperty("fatce")    float fatG,
+        @JsonProperty("nat")      float sodiumMg,
+        @JsonProperty("servingG") float servingG,  // foodSize 를 g 로 환산한 값
+        @JsonProperty("foodSize") String serving,  // 예: "100g", "1회(30g)"
+        @JsonProperty("mkrNm")    String maker
+) {
+    public static final float NONE = Float.NaN;
+
+    public NutritionRecord {
+        source = source == null ? null : source.intern();
+        category = category == null ? null : category.intern();
+    }
+
+    public static boolean has(float v) {
+        return !Float.isNaN(v);
+    }
+
+    /** DB 컬럼(Double)으로 옮길 때: float 표현 그대로 (12.3f → 12.3) */
+    public static Double boxed(float v) {
+        return has(v) ? Double.valueOf(Float.toString(v)) : null;
+    }
+
+    public static float unboxed(Double v) {
+        return v == null ? NONE : v.floatValue();
+    }
+
+    /** 100g 기준 kcal (kcal 없으면 -1, 중량 모르면 기준량 100g 가정) */
+    @JsonIgnore
+    public int kcalPer100g() {
+        if (!has(kcal)) return -1;
+        if (!has(servingG) || servingG <= 0f) return Math.round(kcal);
+        return Math.round(kcal / servingG * 100f);
+    }
+
+    public static NutritionRecord of(NutritionItem i) {
+        return new NutritionRecord(i.getSource(), null, i.getFoodCode(), i.getFoodName(),
+                unboxed(i.getKcal()), unboxed(i.getCarbsG()), unboxed(i.getProteinG()),
+                unboxed(i.getFatG()), unboxed(i.getSodiumMg()),
+                ServingSize.grams(i.getServing()), i.getServing(), i.getMaker());
+    }
+}
@@ -0,0 +1,90 @@
+package com.healthsync.project.nutri.dto;
+
+/**
+ * "100g", "1회(30g)", "1포(45 g)", "100ml", "1.5kg" 같은 중량 문자열 → g 단위 float.
+ * - 정규식 없이 문자 단위로 한 번 훑는 스캐너 (숫자/단위 파싱 중 할당 없음)
+ * - 단위: g, kg(×1000), mg(×0.001), ml(밀도 1 가정 → g)
+ * - 카탈로그의 서로 다른 중량 문자열은 수천 개 수준 → 고정 크기 memo 테이블에 결과 보관
+ */
+public final class ServingSize {
+
+    private static final int MEMO_SIZE = 4096; // 2의 거듭제곱
+    private static final Slot[] MEMO = new Slot[MEMO_SIZE];
+
+    /** 불변 슬롯: final 필드라 락 없이 읽어도 key/grams 가 어긋나지 않음 */
+    private record Slot(String key, float grams) {}
+
+    private ServingSize() {}
+
+    /** 마지막 "숫자+단위" 를 g 로 환산 (없으면 NaN) */
+    public static float grams(String s) {
+        if (s == null || s.isEmpty()) return NutritionRecord.NONE;
+        int i = (s.hashCode() ^ (s.hashCode() >>> 16)) & (MEMO_SIZE - 1);
+        Slot slot = MEMO[i];
+        if (slot != null && slot.key().equals(s)) return slot.grams();
+
+        float g = scan(s);
+        MEMO[i] = new Slot(s, g); // 충돌 시 덮어씀 (direct-mapped)
+        return g;
+    }
+
+    /** memo 없이 바로 스캔 (벤치마크/테스트용) */
+    public static float scan(CharSequence s) {
+        float last = NutritionRecord.NONE;
+        int n = s.length();
+        int i = 0;
+        while (i < n) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) { i++; continue; }
+
+            // 정수부
+            long mant = 0;
+            int scale = 0;
+            while (i < n && isDigit(c = s.charAt(i))) {
+                if (mant < 100_000_000L) mant = mant * 10 + (c - '0'); else scale--;
+                i++;
+            }
+            // 소수부 ("30." 처럼 뒤에 숫자가 없으면 소수점 무시)
+            if (i + 1 < n && s.charAt(i) == '.' && isDigit(s.charAt(i + 1))) {
+                i++;
+                while (i < n && isDigit(c = s.charAt(i))) {
+                    if (mant < 100_000_000L) { mant = mant * 10 + (c - '0'); scale++; }
+                    i++;
+                }
+            }
+            // 숫자와 단위 사이 공백 허용 ("45 g")
+            int j = i;
+            while (j < n && Character.isWhitespace(s.charAt(j))) j++;
+
+            float factor = unitFactor(s, j);
+            if (!Float.isNaN(factor)) {
+                last = (float) (mant / pow10(scale)) * factor;
+                i = j;
+            }
+        }
+        return last;
+    }
+
+    /** j 위치의 단위 배율 (단위가 아니면 NaN) */
+    private static float unitFactor(CharSequence s, int j) {
+        int n = s.length();
+        if (j >= n) return Float.NaN;
+        char a = Character.toLowerCase(s.charAt(j));
+        char b = j + 1 < n ? Character.toLowerCase(s.charAt(j + 1)) : 0;
+        if (a == 'g') return 1f;
+        if (a == 'k' && b == 'g') return 1000f;
+        if (a == 'm' && b == 'g') return 0.001f;
+        if (a == 'm' && b == 'l') return 1f;
+        return Float.NaN;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static double pow10(int scale) {
+        double p = 1;
+        for (int k = 0; k < Math.abs(scale); k++) p *= 10;
+        return scale >= 0 ? p : 1 / p;
+    }
+}
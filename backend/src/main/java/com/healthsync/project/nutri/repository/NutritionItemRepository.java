@@ -0,0 +1,12 @@
+package com.healthsync.project.nutri.repository;
+
+import com.healthsync.project.nutri.domain.NutritionItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NutritionItemRepository extends JpaRepository<NutritionItem, Long> {
+
+    List<NutritionItem> findAllBySourceAndFoodCodeIn(String source, Collection<String> foodCodes);
+}
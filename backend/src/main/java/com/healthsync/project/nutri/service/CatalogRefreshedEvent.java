@@ -0,0 +1,7 @@
+package com.healthsync.project.nutri.service;
+
+/**
+ * 메모리 색인(NutriCatalogIndex)이 새 스냅샷으로 교체된 뒤 발행.
+ * 자동완성처럼 카탈로그에서 파생된 구조는 이 이벤트를 받아 다시 만든다.
+ */
+public record CatalogRefreshedEvent(long version, int size) {}
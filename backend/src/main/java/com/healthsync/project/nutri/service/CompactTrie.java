@@ -0,0 +1,127 @@
+package com.healthsync.project.nutri.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 배열 기반 읽기 전용 trie (노드 객체/Map 없음).
+ * - 문서를 키 사전순으로 정렬해 두면 어떤 접두어의 하위 문서들은 order[lo, hi) 연속 구간이 됨
+ * - 노드 i: label[i], 자식 = [first[i], first[i+1]) (BFS 순서라 자식이 연속), 하위 문서 구간 = [lo[i], hi[i])
+ * - 접두 검색 = 글자당 자식 이분 탐색, 오타 검색 = 노드별 편집거리 행을 들고 DFS (maxDist 넘으면 가지치기)
+ */
+final class CompactTrie {
+
+    /** 오타 검색 결과: order[lo, hi) 구간이 거리 dist 로 일치 */
+    @FunctionalInterface
+    interface RangeSink {
+        void accept(int lo, int hi, int dist);
+    }
+
+    static final CompactTrie EMPTY = new CompactTrie(new String[0]);
+
+    private final String[] keys;  // 문서 번호 → 키
+    private final int[] order;    // 키 사전순으로 정렬된 문서 번호
+    private char[] label;
+    private int[] first, lo, hi;
+    private int size;
+
+    CompactTrie(String[] keys) {
+        this.keys = keys;
+        this.order = IntStream.range(0, keys.length).boxed()
+                .sorted(Comparator.comparing((Integer d) -> keys[d]).thenComparingInt(d -> d))
+                .mapToInt(Integer::intValue).toArray();
+        build();
+    }
+
+    int doc(int pos) {
+        return order[pos];
+    }
+
+    /** prefix 로 시작하는 문서 구간 {lo, hi} (없으면 빈 구간) */
+    int[] prefixRange(CharSequence prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) node = child(node, prefix.charAt(i));
+        return node < 0 ? new int[]{0, 0} : new int[]{lo[node], hi[node]};
+    }
+
+    /**
+     * 접두 편집거리 검색: 어떤 키의 접두어가 q 와 maxDist 이내면 그 하위 구간 전체를 넘김.
+     * (입력 중인 질의 + 오타를 함께 허용). 같은 문서가 더 작은 거리로 다시 보고될 수 있음 → 호출측에서 최솟값 사용
+     */
+    void fuzzyPrefix(String q, int maxDist, RangeSink sink) {
+        if (size == 0) return;
+        int[] row = new int[q.length() + 1];
+        for (int j = 0; j <= q.length(); j++) row[j] = j;
+        if (row[q.length()] <= maxDist) { sink.accept(lo[0], hi[0], row[q.length()]); return; }
+        for (int c = first[0]; c < first[1]; c++) walk(c, q, row, maxDist, sink);
+    }
+
+    private void walk(int node, String q, int[] prev, int maxDist, RangeSink sink) {
+        int m = q.length();
+        int[] row = new int[m + 1];
+        row[0] = prev[0] + 1;
+        int min = row[0];
+        char ch = label[node];
+        for (int j = 1; j <= m; j++) {
+            int cost = q.charAt(j - 1) == ch ? 0 : 1;
+            row[j] = Math.min(Math.min(row[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            min = Math.min(min, row[j]);
+        }
+        if (row[m] <= maxDist) {
+            sink.accept(lo[node], hi[node], row[m]);
+            if (min >= row[m]) return;
+            maxDist = row[m] - 1; // 더 깊이 가면 더 가까운 접두가 있을 수 있음 → 개선되는 경우만 추가 보고
+        }
+        if (min > maxDist) return;
+        for (int c = first[node]; c < first[node + 1]; c++) walk(c, q, row, maxDist, sink);
+    }
+
+    private int child(int node, char c) {
+        int a = first[node], b = first[node + 1] - 1;
+        while (a <= b) {
+            int mid = (a + b) >>> 1;
+            if (label[mid] < c) a = mid + 1;
+            else if (label[mid] > c) b = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /* ---------- build ---------- */
+
+    private void build() {
+        int cap = Math.max(16, keys.length * 2);
+        label = new char[cap];
+        first = new int[cap + 1];
+        lo = new int[cap];
+        hi = new int[cap];
+        int[] depth = new int[cap];
+
+        size = 1; // root
+        lo[0] = 0; hi[0] = order.length; depth[0] = 0;
+        for (int node = 0; node < size; node++) {
+            first[node] = size;
+            int d = depth[node];
+            int p = lo[node], end = hi[node];
+            while (p < end && keys[order[p]].length() == d) p++; // 여기서 끝나는 키(정렬상 맨 앞)
+            while (p < end) {
+                char c = keys[order[p]].charAt(d);
+                int q = p + 1;
+                while (q < end && keys[order[q]].charAt(d) == c) q++;
+                if (size == label.length) {
+                    int n = label.length * 2;
+                    label = Arrays.copyOf(label, n); first = Arrays.copyOf(first, n + 1);
+                    lo = Arrays.copyOf(lo, n); hi = Arrays.copyOf(hi, n); depth = Arrays.copyOf(depth, n);
+                }
+                label[size] = c; lo[size] = p; hi[size] = q; depth[size] = d + 1;
+                size++;
+                p = q;
+            }
+        }
+        first[size] = size;
+        // 여유 공간 반납
+        label = Arrays.copyOf(label, size); first = Arrays.copyOf(first, size + 1);
+        lo = Arrays.copyOf(lo, size); hi = Arrays.copyOf(hi, size);
+    }
+}
@@ -0,0 +1,71 @@
+package com.healthsync.project.nutri.service;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고정 메모리 빈도 추정기 (count-min sketch, depth × width int 카운터).
+ * - conservative update: 행별 최솟값(=추정치)보다 작은 칸만 올려 과대추정을 줄임
+ * - 감쇠: 누적 추가량이 sampleSize 를 넘을 때마다 전체 카운터를 절반으로 (오래된 인기는 점점 사라짐)
+ * - 락 없이 CAS 로 갱신 (동시에 올리면 드물게 1~2 덜 세질 수 있음 — 순위용이라 무시)
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicIntegerArray table;
+    private final long sampleSize;
+    private final AtomicLong added = new AtomicLong();
+
+    CountMinSketch(int depth, int width, long sampleSize) {
+        this.depth = Math.max(1, depth);
+        int w = Integer.highestOneBit(Math.max(64, width - 1) << 1); // 2의 거듭제곱으로 올림
+        this.mask = w - 1;
+        this.table = new AtomicIntegerArray(this.depth * w);
+        this.sampleSize = sampleSize > 0 ? sampleSize : 10L * w;
+    }
+
+    /** n 만큼 올리고 새 추정치 반환 */
+    int add(String key, int n) {
+        int h1 = spread(key.hashCode()), h2 = spread(h1) | 1;
+        int est = estimate(h1, h2);
+        int target = (int) Math.min(Integer.MAX_VALUE, (long) est + n);
+        for (int i = 0; i < depth; i++) {
+            int idx = slot(i, h1, h2);
+            int cur;
+            while ((cur = table.get(idx)) < target && !table.compareAndSet(idx, cur, target)) { /* retry */ }
+        }
+        if (added.addAndGet(n) >= sampleSize && added.getAndSet(0) >= sampleSize) decay();
+        return target;
+    }
+
+    int estimate(String key) {
+        int h1 = spread(key.hashCode());
+        return estimate(h1, spread(h1) | 1);
+    }
+
+    private int estimate(int h1, int h2) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < depth; i++) min = Math.min(min, table.get(slot(i, h1, h2)));
+        return min;
+    }
+
+    /** 전체 카운터 절반 */
+    void decay() {
+        for (int i = 0; i < table.length(); i++) table.getAndUpdate(i, v -> v >>> 1);
+    }
+
+    private int slot(int row, int h1, int h2) {
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+
+    /** murmur3 fmix32 */
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
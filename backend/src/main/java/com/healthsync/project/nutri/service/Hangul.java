@@ -0,0 +1,89 @@
+package com.healthsync.project.nutri.service;
+
+/**
+ * 한글 검색용 분해 유틸.
+ * - jamo: 완성형 음절 → 호환 자모 나열. 겹모음/겹받침은 낱자로 풀어서("닭" → ㄷㅏㄹㄱ) 입력 중인 글자("달")와도 접두 일치
+ * - chosung: 음절마다 초성만 ("닭가슴살" → ㄷㄱㅅㅅ), 한글이 아닌 글자는 그대로
+ */
+final class Hangul {
+
+    private static final int BASE = 0xAC00, LAST = 0xD7A3;
+
+    private static final char[] CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private Hangul() {}
+
+    static boolean isSyllable(char c) {
+        return c >= BASE && c <= LAST;
+    }
+
+    /** 호환 자모 자음 (ㄱ~ㅎ) */
+    static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /** "ㄷㄱㅅㅅ" 처럼 자음만으로 된 질의인지 */
+    static boolean isChosungQuery(String s) {
+        if (s.isEmpty()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (!isConsonant(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    static String jamo(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isSyllable(c)) {
+                int idx = c - BASE;
+                sb.append(CHO[idx / 588]).append(JUNG[(idx % 588) / 28]).append(JONG[idx % 28]);
+            } else {
+                sb.append(splitCompat(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    static String chosung(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            sb.append(isSyllable(c) ? CHO[(c - BASE) / 588] : c);
+        }
+        return sb.toString();
+    }
+
+    /** 질의에 낱자로 들어온 겹자모도 같은 규칙으로 풀어 줌 */
+    private static CharSequence splitCompat(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> String.valueOf(c);
+        };
+    }
+}
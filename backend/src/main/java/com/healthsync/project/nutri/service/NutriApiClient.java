@@ -1,10 +1,14 @@
 package com.healthsync.project.nutri.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthsync.project.nutri.config.DataGoKrProps;
 import com.healthsync.project.nutri.dto.NutriParamPolicy;
+import com.healthsync.project.nutri.dto.NutritionRecord;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -13,23 +17,83 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.ToIntFunction;
 
 @Service
 @RequiredArgsConstructor
 public class NutriApiClient {
 
+    private static final Logger log = LoggerFactory.getLogger(NutriApiClient.class);
+
     @Qualifier("restTemplateNoRedirect")
     private final RestTemplate rt;
     private final DataGoKrProps props;
     private final NutriParamPolicy policy;
+    private final NutriResponseCache cache;
+    private final NutriResponseReader reader;
+    private final NutriCallGuard guard;
+    private final NutriQuota quota;
+    private final NutriCallLog callLog;
     private final ObjectMapper om = new ObjectMapper();
 
+    /** 검증/정책 적용이 끝난 호출 대상 */
+    private record Target(String apiName, Map<String, String> query, URI uri) {}
+
+    /** 캐시 경유 조회, 원본 JSON 트리 (프록시 엔드포인트/검색 응답용) */
     public JsonNode getItems(String apiName, Map<String, String> filters) throws IOException {
+        Target t = prepare(apiName, filters);
+        try {
+            // 캐시 miss 만 예산 확보, 브레이커/벌크헤드에서 거절되면 환불
+            return cache.get("tree", apiName, t.query(),
+                    () -> guard.call(apiName, () -> quota.acquire(apiName), () -> quota.refund(apiName), () -> fetchTree(t, "miss")),
+                    node -> node == null || node.isEmpty()); // NODATA → negative cache
+        } catch (CancellationException e) {
+            throw e; // 호출자 취소 (fan-out 에서 진 단계) → 장애 아님
+        } catch (IOException | RuntimeException e) {
+            return staleOrThrow("tree", t, e);
+        }
+    }
+
+    /** 캐시 경유 조회, 스트리밍 파싱된 타입 레코드 (kcal 조회 등 내부 계산용) */
+    public List<NutritionRecord> getRecords(String apiName, Map<String, String> filters) throws IOException {
+        Target t = prepare(apiName, filters);
+        try {
+            return cache.get("records", apiName, t.query(),
+                    () -> guard.call(apiName, () -> quota.acquire(apiName), () -> quota.refund(apiName), () -> fetchRecords(t, "miss")),
+                    List::isEmpty);
+        } catch (CancellationException e) {
+            throw e; // 호출자 취소 (fan-out 에서 진 단계) → 장애 아님
+        } catch (IOException | RuntimeException e) {
+            return staleOrThrow("records", t, e);
+        }
+    }
+
+    /** 캐시 우회 + 스트리밍 파싱 (카탈로그 대량 동기화처럼 재사용 안 되는 큰 페이지) */
+    public List<NutritionRecord> fetchRecords(String apiName, Map<String, String> filters) throws IOException {
+        Target t = prepare(apiName, filters);
+        return guard.callBulk(apiName, () -> quota.acquire(apiName), () -> quota.refund(apiName), () -> fetchRecords(t, "bypass"));
+    }
+
+    /** 장애(서킷 OPEN/벌크헤드 초과/타임아웃/HTTP 오류) 시 만료된 캐시라도 있으면 사용, 없으면 그대로 실패 */
+    private <T> T staleOrThrow(String kind, Target t, Exception e) throws IOException {
+        T stale = cache.getStale(kind, t.apiName(), t.query());
+        if (stale != null) {
+            log.warn("[nutri] {} 실패 → stale 캐시 사용: {}", t.apiName(), NutriCallLog.redact(e.getMessage()));
+            return stale;
+        }
+        if (e instanceof IOException io) throw io;
+        throw (RuntimeException) e;
+    }
+
+    private Target prepare(String apiName, Map<String, String> filters) {
         // --- 0) 입력 검증 및 구성 읽기
         DataGoKrProps.Api api = props.getApis().get(apiName);
         if (api == null) {
@@ -80,8 +144,6 @@ public class NutriApiClient {
         if (!q.containsKey("type")) q.put("type", "json"); // XML이 필요하면 호출부에서 바꾸세요
         q = policy.sanitize(apiName, q);
 
-        org.slf4j.LoggerFactory.getLogger(NutriApiClient.class)
-                .info("[nutri] {} query={}", apiName, q);
 
         // --- 3) URI 생성 (serviceKey는 마지막에 '문자열로' 덧붙여 원본 보존)
         UriComponentsBuilder ucb = UriComponentsBuilder
@@ -92,83 +154,97 @@ public class NutriApiClient {
             ucb.queryParam(e.getKey(), e.getValue());
         }
 
-
         URI partial = ucb.build().encode(StandardCharsets.UTF_8).toUri();
 
-
         String finalUrl = partial.toString()
                 + (partial.getQuery() == null || partial.getQuery().isEmpty() ? "?" : "&")
                 + "serviceKey=" + serviceKeyRaw;
 
-        /** 테스트 */
-        //URI uri = URI.create(finalUrl);
-        URI uri = URI.create(finalUrl);
-        // ★ 호출 URL 로그
-        org.slf4j.LoggerFactory.getLogger(NutriApiClient.class)
-                .info("[nutri] GET {}", uri.toString());
-        /** 테스트 */
-
-
-
-        // --- 4) 요청 헤더
-        HttpHeaders headers = new HttpHeaders();
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        HttpEntity<Void> req = new HttpEntity<Void>(headers);
-
-        // --- 5) 호출
-        ResponseEntity<String> res;
-        try {
-            res = rt.exchange(uri, HttpMethod.GET, req, String.class);
-            /** 테스트 */
-        } catch (RestClientException e) {
-            org.slf4j.LoggerFactory.getLogger(NutriApiClient.class)
-                    .warn("[nutri] HTTP 실패: {}", e.toString());
-            throw new RuntimeException("HTTP 호출 실패: " + e.getMessage(), e);
-        }
-
-        /** 테스트 */
-
-        // --- 6) 응답 검증
-        String ct = res.getHeaders().getFirst("Content-Type");
-        String body = (res.getBody() == null ? "" : res.getBody());
+        return new Target(apiName, q, URI.create(finalUrl));
+    }
 
-        if (!res.getStatusCode().is2xxSuccessful()) {
-            String snippet = body.length() > 400 ? body.substring(0, 400) + "..." : body;
-            throw new RuntimeException("HTTP 호출 실패: " + res.getStatusCode()
-                    + " content-type=" + ct + " bodySnippet=" + snippet);
-        }
+    /** 응답 바디를 String 으로 모으지 않고 InputStream 에서 바로 레코드로 변환 */
+    private List<NutritionRecord> fetchRecords(Target t, String cacheState) throws IOException {
+        return exchange(t, cacheState, in -> reader.read(t.apiName(), in), List::size);
+    }
 
-// Content-Type 이 null이어도, 바디가 JSON이면 통과
-        JsonNode root;
-        try {
-            root = om.readTree(body);
-        } catch (IOException ex) {
-            String snippet = body.length() > 400 ? body.substring(0, 400) + "..." : body;
-            throw new RuntimeException("JSON 파싱 실패: content-type=" + ct + " bodySnippet=" + snippet, ex);
-        }
+    private JsonNode fetchTree(Target t, String cacheState) throws IOException {
+        JsonNode root = exchange(t, cacheState, om::readTree, NutriApiClient::rowCount);
+        if (root == null) root = om.createObjectNode();
 
-// --- 7) 공통 응답 검사
+        // --- 공통 응답 검사
         String code = root.at("/response/header/resultCode").asText("");
         String msg = root.at("/response/header/resultMsg").asText("");
 
-/// ✅ 03(NODATA)는 빈 배열 반환 (이미 적용)
-// ✅ 10(INVALID_REQUEST_PARAMETER)도 폴백을 위해 빈 배열 반환
+        // ✅ 03(NODATA), 10(INVALID_REQUEST_PARAMETER)는 폴백을 위해 빈 배열 반환
         if ("03".equals(code) || "10".equals(code)) {
-            org.slf4j.LoggerFactory.getLogger(NutriApiClient.class)
-                    .warn("[nutri] API code={} msg={}", code, msg);
+            log.warn("[nutri] API code={} msg={}", code, msg);
             return om.createArrayNode();
         }
 
-// 그 외 정상(00)만 통과
+        // 그 외 정상(00)만 통과
         if (!"00".equals(code)) {
-            org.slf4j.LoggerFactory.getLogger(NutriApiClient.class)
-                    .warn("[nutri] API 오류: code={} msg={}", code, msg);
+            log.warn("[nutri] API 오류: code={} msg={}", code, msg);
             throw new IllegalStateException("API 오류: " + code + " - " + msg);
         }
 
-// ★ data.go.kr 은 보통 /response/body/items/item 배열
+        // ★ data.go.kr 은 보통 /response/body/items/item 배열
         JsonNode node = root.at("/response/body/items/item");
-// 혹시 item이 없이 items가 바로 배열이면 그걸 반환
+        // 혹시 item이 없이 items가 바로 배열이면 그걸 반환
         return node.isMissingNode() ? root.at("/response/body/items") : node;
     }
-}
\ No newline at end of file
+
+    private interface BodyReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+
+    /** 호출 1건 = 구조화 이벤트 1줄 (NutriCallLog, 샘플링). URL/serviceKey 는 남기지 않음 */
+    private <T> T exchange(Target t, String cacheState, BodyReader<T> bodyReader, ToIntFunction<T> rows) throws IOException {
+        if (log.isDebugEnabled()) log.debug("[nutri] {} query={}", t.apiName(), t.query());
+        long started = System.nanoTime();
+        int[] status = {0};
+        try {
+            T body = rt.execute(t.uri(), HttpMethod.GET,
+                    req -> req.getHeaders().setAccept(Collections.singletonList(MediaType.APPLICATION_JSON)),
+                    res -> {
+                        status[0] = res.getStatusCode().value();
+                        String ct = res.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+                        if (!res.getStatusCode().is2xxSuccessful()) {
+                            throw new RuntimeException("HTTP 호출 실패: " + res.getStatusCode()
+                                    + " content-type=" + ct + " bodySnippet=" + snippet(res.getBody()));
+                        }
+                        // Content-Type 이 null이어도, 바디가 JSON이면 통과
+                        try {
+                            return bodyReader.read(res.getBody());
+                        } catch (JsonProcessingException ex) {
+                            throw new RuntimeException("JSON 파싱 실패: content-type=" + ct
+                                    + " at " + ex.getLocation(), ex);
+                        }
+                    });
+            callLog.success(t.apiName(), cacheState, System.nanoTime() - started, status[0],
+                    body == null ? 0 : rows.applyAsInt(body));
+            return body;
+        } catch (RestClientException e) {
+            callLog.failure(t.apiName(), cacheState, System.nanoTime() - started, status[0], e);
+            throw new RuntimeException("HTTP 호출 실패: " + NutriCallLog.redact(e.getMessage()), e);
+        } catch (RuntimeException e) {
+            callLog.failure(t.apiName(), cacheState, System.nanoTime() - started, status[0], e);
+            throw e;
+        }
+    }
+
+    /** 로그용 행 수: 배열이면 크기, 객체면 body.items 배열 크기 */
+    private static int rowCount(JsonNode root) {
+        if (root.isArray()) return root.size();
+        JsonNode items = root.at("/response/body/items/item");
+        if (items.isMissingNode()) items = root.at("/response/body/items");
+        return items.isArray() ? items.size() : (items.isObject() ? 1 : 0);
+    }
+
+    /** 오류 응답 진단용: 앞 400바이트만 읽음 */
+    private static String snippet(InputStream in) throws IOException {
+        byte[] buf = in.readNBytes(401);
+        String s = new String(buf, 0, Math.min(buf.length, 400), StandardCharsets.UTF_8);
+        return buf.length > 400 ? s + "..." : s;
+    }
+}
@@ -0,0 +1,210 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.dto.AutocompleteItem;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import com.healthsync.project.plan.repository.FoodSelectionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음식 선택창 자동완성 (/api/nutri/autocomplete).
+ * - 후보 = 카탈로그 식품명(NutriCatalogIndex 스냅샷) + 사용자가 저장했던 FoodSelection.label
+ * - 정규화 이름이 같으면 한 줄로 합침 (카탈로그는 소스 우선순위가 높은 것, 가중치는 합산)
+ * - 가중치 = 사용 빈도 추정(NutriPopularity) + 라벨 저장 횟수 (재구축 시점 값)
+ * - 자모 키 CompactTrie 하나 + 초성 키 trie 하나, 나머지는 문서 번호로 인덱싱한 병렬 배열
+ * - 질의 = 접두 구간 [lo, hi) 를 한 번 훑으며 미리 계산한 rank 로 상위 k 만 유지 (정렬/할당 없음)
+ * - CatalogRefreshedEvent 를 받으면 전용 스레드에서 다시 만들고 volatile 참조만 교체
+ */
+@Slf4j
+@Component
+public class NutriAutocomplete {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 20;
+
+    static final String HISTORY = "history";
+
+    private static final int NO_KCAL = Integer.MIN_VALUE;
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(CompactTrie.EMPTY, CompactTrie.EMPTY,
+                new String[0], new int[0], new String[0], new String[0], new int[0], new int[0]);
+
+        final CompactTrie jamo;     // 자모 키 trie
+        final CompactTrie chosung;  // 초성 키 trie
+        final String[] text;        // 표시 이름
+        final int[] kcal;           // NO_KCAL = 없음
+        final String[] source;
+        final String[] code;
+        final int[] rank;           // 0 = 가장 앞 (가중치 → 소스 → 짧은 이름)
+        final int[] keyLen;         // 자모 키 길이 (질의와 같으면 완전 일치)
+
+        Snapshot(CompactTrie jamo, CompactTrie chosung, String[] text, int[] kcal,
+                 String[] source, String[] code, int[] rank, int[] keyLen) {
+            this.jamo = jamo; this.chosung = chosung; this.text = text; this.kcal = kcal;
+            this.source = source; this.code = code; this.rank = rank; this.keyLen = keyLen;
+        }
+    }
+
+    private final NutriCatalogIndex index;
+    private final FoodSelectionRepository selections;
+    private final NutriPopularity popularity;
+
+    private volatile Snapshot snap = Snapshot.EMPTY;
+
+    // 재구축은 한 번에 하나, 대기도 하나만 (연속 이벤트는 합쳐짐 — 대기 작업이 실행 시점의 최신 색인을 읽음)
+    private final ThreadPoolExecutor rebuilder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("nutri-autocomplete-"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public NutriAutocomplete(NutriCatalogIndex index, FoodSelectionRepository selections, NutriPopularity popularity) {
+        this.index = index;
+        this.selections = selections;
+        this.popularity = popularity;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /** 카탈로그를 쓰지 않는 환경에서도 라벨 이력만으로 동작하도록 기동 시 한 번 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduleRebuild();
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent e) {
+        scheduleRebuild();
+    }
+
+    public void scheduleRebuild() {
+        rebuilder.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception ex) {
+                log.warn("[nutri-autocomplete] 재구축 실패: {}", ex.toString());
+            }
+        });
+    }
+
+    public int size() {
+        return snap.text.length;
+    }
+
+    /** 접두(자모 단위, 입력 중인 글자 포함) 또는 초성 질의로 상위 limit 개 */
+    public List<AutocompleteItem> complete(String prefix, int limit) {
+        Snapshot s = snap;
+        String q = NutriCatalogIndex.normalize(prefix);
+        int k = Math.max(1, Math.min(MAX_LIMIT, limit));
+        if (q.isEmpty() || s.text.length == 0) return List.of();
+
+        boolean chosung = Hangul.isChosungQuery(q);
+        CompactTrie trie = chosung ? s.chosung : s.jamo;
+        String key = chosung ? q : Hangul.jamo(q);
+        int[] range = trie.prefixRange(key);
+
+        // 상위 k 유지: best[] 를 점수 오름차순으로 삽입 정렬 (k ≤ 20)
+        int n = s.text.length;
+        int[] best = new int[k], bestScore = new int[k];
+        int size = 0;
+        for (int p = range[0]; p < range[1]; p++) {
+            int d = trie.doc(p);
+            // 완전 일치는 rank 와 무관하게 맨 앞 (초성 질의는 rank 만)
+            int score = (!chosung && s.keyLen[d] == key.length()) ? s.rank[d] : n + s.rank[d];
+            if (size == k && score >= bestScore[k - 1]) continue;
+            int i = size < k ? size++ : k - 1;
+            while (i > 0 && bestScore[i - 1] > score) {
+                best[i] = best[i - 1];
+                bestScore[i] = bestScore[i - 1];
+                i--;
+            }
+            best[i] = d;
+            bestScore[i] = score;
+        }
+
+        List<AutocompleteItem> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int d = best[i];
+            out.add(new AutocompleteItem(s.text[d], s.kcal[d] == NO_KCAL ? null : s.kcal[d], s.source[d], s.code[d]));
+        }
+        return out;
+    }
+
+    /* ---------- build ---------- */
+
+    /** 정규화 이름 하나 = 후보 하나 */
+    private static final class Draft {
+        String text, source, code;
+        int kcal = NO_KCAL;
+        long weight;
+    }
+
+    void rebuild() {
+        long started = System.currentTimeMillis();
+
+        Map<String, Draft> byKey = new HashMap<>();
+        for (NutritionRecord r : index.records()) {
+            String key = NutriCatalogIndex.normalize(r.name());
+            if (key.isEmpty()) continue;
+            Draft d = byKey.computeIfAbsent(key, x -> new Draft());
+            d.weight += popularity.estimate(r.code());
+            if (d.source == null || NutriCatalogIndex.sourceRank(r.source()) < NutriCatalogIndex.sourceRank(d.source)) {
+                d.text = r.name();
+                d.source = r.source();
+                d.code = r.code();
+                d.kcal = NutritionRecord.has(r.kcal()) ? Math.round(r.kcal()) : NO_KCAL;
+            }
+        }
+        for (Object[] row : selections.countByLabel()) {
+            String label = (String) row[0];
+            String key = NutriCatalogIndex.normalize(label);
+            if (key.isEmpty()) continue;
+            Draft d = byKey.computeIfAbsent(key, x -> new Draft());
+            d.weight += ((Number) row[2]).longValue();
+            if (d.source == null) { // 카탈로그에 없는 라벨 ("쌀밥 200g" 등)
+                d.text = label.trim();
+                d.source = HISTORY;
+                d.kcal = row[1] == null ? NO_KCAL : ((Number) row[1]).intValue();
+            }
+        }
+
+        int n = byKey.size();
+        Draft[] drafts = byKey.values().toArray(new Draft[0]);
+        String[] text = new String[n], source = new String[n], code = new String[n];
+        String[] jamoKeys = new String[n], chosungKeys = new String[n];
+        int[] kcal = new int[n], keyLen = new int[n];
+        for (int d = 0; d < n; d++) {
+            Draft x = drafts[d];
+            text[d] = x.text; source[d] = x.source; code[d] = x.code; kcal[d] = x.kcal;
+            String key = NutriCatalogIndex.normalize(x.text);
+            jamoKeys[d] = Hangul.jamo(key);
+            chosungKeys[d] = Hangul.chosung(key);
+            keyLen[d] = jamoKeys[d].length();
+        }
+
+        Integer[] byRank = new Integer[n];
+        for (int d = 0; d < n; d++) byRank[d] = d;
+        Arrays.sort(byRank, Comparator
+                .comparingLong((Integer d) -> -drafts[d].weight)
+                .thenComparingInt(d -> NutriCatalogIndex.sourceRank(source[d]))
+                .thenComparingInt(d -> keyLen[d])
+                .thenComparing(d -> text[d]));
+        int[] rank = new int[n];
+        for (int r = 0; r < n; r++) rank[byRank[r]] = r;
+
+        snap = new Snapshot(new CompactTrie(jamoKeys), new CompactTrie(chosungKeys),
+                text, kcal, source, code, rank, keyLen);
+        log.info("[nutri-autocomplete] {}건 재구축 ({}ms)", n, System.currentTimeMillis() - started);
+    }
+}
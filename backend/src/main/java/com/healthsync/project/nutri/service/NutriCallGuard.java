@@ -0,0 +1,312 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * data.go.kr API별 보호막 (DataGoKrProps.apis 한 항목 = 브레이커 하나).
+ * - circuit breaker: 최근 windowSize 건 실패율이 임계치를 넘으면 OPEN → openDuration 뒤 HALF_OPEN 시험 호출
+ * - bulkhead: API별 동시 outbound 호출 수 상한 (넘치면 기다리지 않고 즉시 거절)
+ * - adaptive timeout: 최근 지연의 분위수 × 배수 (min~max 로 clamp). 호출은 전용 스레드에서 돌리고
+ *   호출자는 그 시간만 기다림 → Tomcat 워커가 read-timeout(100s) 동안 묶이지 않음
+ * 거절/타임아웃은 503 ResponseStatusException → NutriApiClient 가 stale 캐시로 대체 시도.
+ * 호출자 쪽 인터럽트(NutriFanout 이 진 단계를 cancel)는 장애가 아니므로 브레이커/지연 표본에 넣지 않고
+ * CancellationException 으로 올림 (NutriResponseCache 는 이 경우 공유 future 를 실패시키지 않음).
+ */
+@Slf4j
+@Component
+public class NutriCallGuard implements MeterBinder {
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws IOException;
+    }
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final DataGoKrProps props;
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+    // 동시 실행 수는 bulkhead 가 제한하므로 풀 자체는 상한 없이 재사용만
+    private final ExecutorService calls = Executors.newCachedThreadPool(new CustomizableThreadFactory("nutri-call-"));
+
+    public NutriCallGuard(DataGoKrProps props) {
+        this.props = props;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        calls.shutdownNow();
+    }
+
+    /** 사용자 요청 경로: 브레이커 + 벌크헤드 + 적응형 타임아웃 */
+    public <T> T call(String apiName, Call<T> call) throws IOException {
+        return call(apiName, () -> {}, () -> {}, call);
+    }
+
+    /**
+     * reserve: 브레이커/벌크헤드보다 먼저 실행 (예: NutriQuota.acquire). 예산 대기(sleep) 중에는 permit 을 잡고 있지 않음.
+     * 예산을 얻은 뒤 브레이커/벌크헤드에서 거절되면 refund 로 되돌림 → 거절된 호출은 예산을 쓰지 않음
+     */
+    public <T> T call(String apiName, Runnable reserve, Runnable refund, Call<T> call) throws IOException {
+        reserve.run();
+        if (!props.getResilience().isEnabled()) {
+            return call.call();
+        }
+        Breaker b = breaker(apiName);
+        b.acquire(refund);
+
+        long timeoutMs = b.timeoutMillis();
+        long started = System.nanoTime();
+        // permit 은 실제 호출이 끝날 때 반납 (인터럽트로는 소켓 read 가 멈추지 않으므로 호출자가 포기해도 유지).
+        // 실행 전에 취소된 작업만 호출자가 반납: 먼저 claimed 를 잡은 쪽이 permit 을 책임짐
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> f;
+        try {
+            f = calls.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) return null; // 시작 전에 취소됨 → 호출자가 이미 반납
+                try {
+                    return call.call();
+                } finally {
+                    b.bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            b.bulkhead.release();
+            b.onFailure();
+            throw unavailable(apiName, "executor rejected");
+        }
+
+        try {
+            T v = f.get(timeoutMs, TimeUnit.MILLISECONDS);
+            b.onSuccess(System.nanoTime() - started);
+            return v;
+        } catch (TimeoutException e) {
+            f.cancel(true);
+            if (claimed.compareAndSet(false, true)) b.bulkhead.release();
+            b.timeouts.increment();
+            b.sample(TimeUnit.MILLISECONDS.toNanos(timeoutMs)); // 느려질수록 표본이 빠지면 timeout 이 오히려 줄어듦
+            b.onFailure();
+            throw unavailable(apiName, "timeout " + timeoutMs + "ms");
+        } catch (InterruptedException e) {
+            // 호출자 취소: 브레이커/지연 표본과 무관. 이미 시작한 호출의 permit 은 그 작업의 finally 가 반납
+            f.cancel(true);
+            if (claimed.compareAndSet(false, true)) b.bulkhead.release(); // 시작 전이면 작업이 돌지 않으므로 여기서
+            b.onNeutral();
+            Thread.currentThread().interrupt();
+            CancellationException ce = new CancellationException("nutri call " + apiName + " cancelled by caller");
+            ce.initCause(e);
+            throw ce;
+        } catch (ExecutionException e) {
+            b.onFailure();
+            Throwable c = e.getCause();
+            if (c instanceof IOException io) throw io;
+            if (c instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(c);
+        }
+    }
+
+    /** 대량 동기화 경로: 브레이커/벌크헤드만 적용 (큰 페이지라 지연 표본/타임아웃 대상 아님) */
+    public <T> T callBulk(String apiName, Runnable reserve, Runnable refund, Call<T> call) throws IOException {
+        reserve.run();
+        if (!props.getResilience().isEnabled()) {
+            return call.call();
+        }
+        Breaker b = breaker(apiName);
+        b.acquire(refund);
+        try {
+            T v = call.call();
+            b.onSuccess(-1);
+            return v;
+        } catch (IOException | RuntimeException e) {
+            b.onFailure();
+            throw e;
+        } finally {
+            b.bulkhead.release();
+        }
+    }
+
+    private Breaker breaker(String apiName) {
+        return breakers.computeIfAbsent(apiName, Breaker::new);
+    }
+
+    private static ResponseStatusException unavailable(String apiName, String reason) {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "영양정보 API(" + apiName + ") 일시 사용 불가: " + reason);
+    }
+
+    /* ---------- per-API state ---------- */
+
+    private final class Breaker {
+        final String api;
+        final Semaphore bulkhead;
+        final LongAdder rejectedOpen = new LongAdder();
+        final LongAdder rejectedFull = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+
+        // 아래 필드는 this 모니터로 보호
+        State state = State.CLOSED;
+        long openedAt;
+        int probes;                 // HALF_OPEN 에서 진행 중인 시험 호출 수
+        final boolean[] outcomes;   // 최근 결과 ring (true = 실패)
+        int pos, count, failures;
+        final long[] latencies;     // 최근 지연(ns) ring
+        int latPos, latCount;
+        long cachedTimeoutMs = -1;  // 표본이 바뀌면 다시 계산
+
+        Breaker(String api) {
+            this.api = api;
+            DataGoKrProps.Resilience r = props.getResilience();
+            DataGoKrProps.Api cfg = props.getApis().get(api);
+            int max = (cfg != null && cfg.getMaxConcurrent() != null) ? cfg.getMaxConcurrent() : r.getMaxConcurrent();
+            this.bulkhead = new Semaphore(Math.max(1, max));
+            this.outcomes = new boolean[Math.max(1, r.getWindowSize())];
+            this.latencies = new long[Math.max(1, r.getLatencySamples())];
+        }
+
+        /** 브레이커 허용 + 벌크헤드 permit 획득. 실패 시 refund 실행 후 503 */
+        void acquire(Runnable refund) {
+            synchronized (this) {
+                if (state == State.OPEN) {
+                    if (System.currentTimeMillis() - openedAt < props.getResilience().getOpenDuration().toMillis()) {
+                        rejectedOpen.increment();
+                        refund.run();
+                        throw unavailable(api, "circuit open");
+                    }
+                    state = State.HALF_OPEN;
+                    probes = 0;
+                    log.info("[nutri] circuit {} HALF_OPEN", api);
+                }
+                if (state == State.HALF_OPEN) {
+                    if (probes >= props.getResilience().getHalfOpenProbes()) {
+                        rejectedOpen.increment();
+                        refund.run();
+                        throw unavailable(api, "circuit half-open");
+                    }
+                    probes++;
+                }
+            }
+            if (!bulkhead.tryAcquire()) {
+                synchronized (this) {
+                    if (state == State.HALF_OPEN) probes--;
+                }
+                rejectedFull.increment();
+                refund.run();
+                throw unavailable(api, "too many concurrent calls");
+            }
+        }
+
+        synchronized void sample(long latencyNanos) {
+            latencies[latPos] = latencyNanos;
+            latPos = (latPos + 1) % latencies.length;
+            if (latCount < latencies.length) latCount++;
+            cachedTimeoutMs = -1;
+        }
+
+        synchronized void onSuccess(long latencyNanos) {
+            if (latencyNanos >= 0) sample(latencyNanos);
+            if (state == State.HALF_OPEN) {
+                log.info("[nutri] circuit {} CLOSED", api);
+                state = State.CLOSED;
+                resetWindow();
+                return;
+            }
+            push(false);
+        }
+
+        /** 결과 없이 끝난 호출 (호출자 취소): HALF_OPEN 시험 호출 자리만 돌려줌 */
+        synchronized void onNeutral() {
+            if (state == State.HALF_OPEN && probes > 0) probes--;
+        }
+
+        synchronized void onFailure() {
+            if (state == State.HALF_OPEN) {
+                open();
+                return;
+            }
+            push(true);
+            DataGoKrProps.Resilience r = props.getResilience();
+            if (state == State.CLOSED && count >= r.getMinimumCalls()
+                    && failures * 100 >= r.getFailureRateThreshold() * count) {
+                open();
+            }
+        }
+
+        private void push(boolean failed) {
+            if (count == outcomes.length) {
+                if (outcomes[pos]) failures--;
+            } else {
+                count++;
+            }
+            outcomes[pos] = failed;
+            if (failed) failures++;
+            pos = (pos + 1) % outcomes.length;
+        }
+
+        private void open() {
+            log.warn("[nutri] circuit {} OPEN (failures={}/{})", api, failures, count);
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            resetWindow();
+        }
+
+        private void resetWindow() {
+            Arrays.fill(outcomes, false);
+            pos = count = failures = 0;
+            probes = 0;
+        }
+
+        synchronized long timeoutMillis() {
+            DataGoKrProps.Resilience r = props.getResilience();
+            long min = r.getMinTimeout().toMillis(), max = r.getMaxTimeout().toMillis();
+            if (latCount < Math.min(20, latencies.length)) return max; // 표본 부족
+            if (cachedTimeoutMs < 0) {
+                long[] sorted = Arrays.copyOf(latencies, latCount);
+                Arrays.sort(sorted);
+                int idx = (int) Math.min(latCount - 1, Math.ceil(r.getPercentile() * latCount) - 1);
+                long pMs = TimeUnit.NANOSECONDS.toMillis(sorted[Math.max(0, idx)]);
+                cachedTimeoutMs = Math.max(min, Math.min(max, (long) (pMs * r.getMultiplier())));
+            }
+            return cachedTimeoutMs;
+        }
+
+        synchronized int stateCode() {
+            return switch (state) { case CLOSED -> 0; case HALF_OPEN -> 1; case OPEN -> 2; };
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 설정된 API 마다 미리 만들어 두고 계측
+        for (String api : props.getApis().keySet()) {
+            Breaker b = breaker(api);
+            Gauge.builder("nutri.circuit.state", b, Breaker::stateCode)
+                    .description("0=closed, 1=half-open, 2=open").tag("api", api).register(registry);
+            Gauge.builder("nutri.call.timeout", b, Breaker::timeoutMillis)
+                    .baseUnit("milliseconds").tag("api", api).register(registry);
+            Gauge.builder("nutri.bulkhead.available", b.bulkhead, Semaphore::availablePermits)
+                    .tag("api", api).register(registry);
+            FunctionCounter.builder("nutri.call.rejected", b.rejectedOpen, LongAdder::sum)
+                    .tag("api", api).tag("reason", "circuit").register(registry);
+            FunctionCounter.builder("nutri.call.rejected", b.rejectedFull, LongAdder::sum)
+                    .tag("api", api).tag("reason", "bulkhead").register(registry);
+            FunctionCounter.builder("nutri.call.timeouts", b.timeouts, LongAdder::sum)
+                    .tag("api", api).register(registry);
+        }
+    }
+}
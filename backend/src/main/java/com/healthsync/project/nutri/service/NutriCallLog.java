@@ -0,0 +1,63 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * data.go.kr outbound 호출 이벤트 로그 (logger = "nutri.outbound").
+ * - 한 호출 = 한 줄, key=value 고정 필드: api, status, latency_ms, rows, cache(miss/bypass)
+ * - 정상 호출은 sampleRate 비율만 INFO, 느린 호출(slowThreshold 이상)과 실패는 항상 WARN
+ * - 메시지는 파라미터 치환만 (문자열 조립/URL 생성은 실제로 남길 때만)
+ * - serviceKey 는 어떤 경로로도 남기지 않음 (redact)
+ */
+@Component
+@RequiredArgsConstructor
+public class NutriCallLog {
+
+    private static final Logger out = LoggerFactory.getLogger("nutri.outbound");
+
+    private final DataGoKrProps props;
+
+    public void success(String api, String cache, long nanos, int status, int rows) {
+        long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (ms >= props.getCallLog().getSlowThreshold().toMillis()) {
+            out.warn("event=nutri.call api={} status={} latency_ms={} rows={} cache={} slow=true", api, status, ms, rows, cache);
+        } else if (out.isInfoEnabled() && sampled()) {
+            out.info("event=nutri.call api={} status={} latency_ms={} rows={} cache={}", api, status, ms, rows, cache);
+        }
+    }
+
+    public void failure(String api, String cache, long nanos, int status, Throwable error) {
+        out.warn("event=nutri.call api={} status={} latency_ms={} rows=0 cache={} error=\"{}\"",
+                api, status, TimeUnit.NANOSECONDS.toMillis(nanos), cache, redact(String.valueOf(error)));
+    }
+
+    private boolean sampled() {
+        double rate = props.getCallLog().getSampleRate();
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /** URL/예외 메시지 안의 serviceKey 값 가림 */
+    public static String redact(String s) {
+        if (s == null) return null;
+        int i = s.indexOf("serviceKey=");
+        if (i < 0) return s;
+        StringBuilder sb = new StringBuilder(s.length());
+        int from = 0;
+        while (i >= 0) {
+            int v = i + "serviceKey=".length();
+            sb.append(s, from, v).append("***");
+            int end = v;
+            while (end < s.length() && "&\" \n".indexOf(s.charAt(end)) < 0) end++;
+            from = end;
+            i = s.indexOf("serviceKey=", end);
+        }
+        return sb.append(s, from, s.length()).toString();
+    }
+}
@@ -0,0 +1,250 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import com.healthsync.project.nutri.domain.NutritionItem;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 공식 데이터셋 다운로드 파일(CSV/JSON, 수십만 행) → nutrition_item 일괄 적재.
+ * - 네트워크 없이 로컬 파일만 사용 (data-go-kr.catalog.import-file 지정 시 기동 중 1회 실행)
+ * - 파일은 스트리밍으로 읽고 chunk 단위로 writer 스레드에 넘김 (파싱과 DB 쓰기가 겹쳐서 진행)
+ * - chunk 마다 기존 row_checksum 을 한 번에 조회 → 바뀐 행만 JDBC batch INSERT ... ON DUPLICATE KEY UPDATE
+ * - 끝나면 읽은 행/변경 행/초당 처리량을 로그로 남김. 메모리 색인은 기동 완료 시 NutriCatalogService 가 다시 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NutriCatalogImporter implements ApplicationRunner {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO nutrition_item
+                (source, food_code, food_name, kcal, carbs_g, protein_g, fat_g, sodium_mg, serving, maker, row_checksum, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                food_name = VALUES(food_name), kcal = VALUES(kcal), carbs_g = VALUES(carbs_g),
+                protein_g = VALUES(protein_g), fat_g = VALUES(fat_g), sodium_mg = VALUES(sodium_mg),
+                serving = VALUES(serving), maker = VALUES(maker),
+                row_checksum = VALUES(row_checksum), updated_at = VALUES(updated_at)
+            """;
+
+    private static final List<NutritionRecord> END = List.of(); // writer 종료 신호
+
+    private final DataGoKrProps props;
+    private final NutriResponseReader reader;
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final TransactionTemplate tx;
+
+    public record Result(long read, long changed, long millis) {
+        public double rowsPerSec() {
+            return millis == 0 ? read : read * 1000.0 / millis;
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        DataGoKrProps.Catalog c = props.getCatalog();
+        if (c.getImportFile() == null || c.getImportFile().isBlank()) return;
+        importFile(Path.of(c.getImportFile()), c.getImportSource());
+    }
+
+    public Result importFile(Path file, String source) throws Exception {
+        if (!NutriCatalogIndex.SOURCE_ORDER.contains(source)) {
+            throw new IllegalArgumentException("Unknown catalog source: " + source);
+        }
+        DataGoKrProps.Catalog c = props.getCatalog();
+        int chunkSize = Math.max(100, c.getImportChunkSize());
+        log.info("[nutri-import] {} ({}) 적재 시작", file, source);
+        long started = System.currentTimeMillis();
+
+        // 파싱(현재 스레드) → 최대 2 chunk 대기 → 쓰기(writer 스레드)
+        BlockingQueue<List<NutritionRecord>> queue = new ArrayBlockingQueue<>(2);
+        long[] changed = {0};
+        AtomicReference<Throwable> writerError = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (List<NutritionRecord> chunk; (chunk = queue.take()) != END; ) {
+                    changed[0] += upsertChunk(source, chunk);
+                }
+            } catch (Throwable t) {
+                writerError.set(t);
+                queue.clear();
+            }
+        }, "nutri-import-writer");
+        writer.start();
+
+        Chunker sink = new Chunker(chunkSize, queue, writerError, started);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) readCsv(in, Charset.forName(c.getImportCharset()), source, sink);
+            else reader.read(source, in, sink); // JSON: records[] / data[] / response.body.items
+            sink.flush();
+        } finally {
+            hand(queue, END, null);
+            writer.join();
+        }
+        if (writerError.get() != null) {
+            throw new IllegalStateException("nutrition_item 적재 실패: " + writerError.get().getMessage(), writerError.get());
+        }
+
+        Result res = new Result(sink.read, changed[0], System.currentTimeMillis() - started);
+        log.info("[nutri-import] {} 완료: read={} changed={} elapsed={}ms ({} rows/s)",
+                source, res.read(), res.changed(), res.millis(), String.format("%.0f", res.rowsPerSec()));
+        return res;
+    }
+
+    /** 파서 스레드 쪽: 행을 chunk 로 묶어 writer 큐에 넘김 */
+    private static final class Chunker implements Consumer<NutritionRecord> {
+        final int size;
+        final BlockingQueue<List<NutritionRecord>> queue;
+        final AtomicReference<Throwable> writerError;
+        final long started;
+        List<NutritionRecord> chunk;
+        long read;
+
+        Chunker(int size, BlockingQueue<List<NutritionRecord>> queue, AtomicReference<Throwable> writerError, long started) {
+            this.size = size; this.queue = queue; this.writerError = writerError; this.started = started;
+            this.chunk = new ArrayList<>(size);
+        }
+
+        @Override
+        public void accept(NutritionRecord r) {
+            read++;
+            chunk.add(r);
+            if (chunk.size() < size) return;
+            flush();
+            if (read % (size * 50L) == 0) {
+                log.info("[nutri-import] {} rows read ({} rows/s)", read,
+                        read * 1000 / Math.max(1, System.currentTimeMillis() - started));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) return;
+            hand(queue, chunk, writerError);
+            chunk = new ArrayList<>(size);
+        }
+    }
+
+    private static void hand(BlockingQueue<List<NutritionRecord>> queue, List<NutritionRecord> chunk,
+                             AtomicReference<Throwable> writerError) {
+        try {
+            if (writerError != null && writerError.get() != null) {
+                throw new IllegalStateException("writer 중단", writerError.get());
+            }
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("nutri import interrupted", e);
+        }
+    }
+
+    /* ---------- write ---------- */
+
+    /** 기존 checksum 과 비교해 바뀐 행만 upsert. 반환 = 변경 행 수 */
+    private int upsertChunk(String source, List<NutritionRecord> chunk) {
+        Map<String, Object[]> byCode = new LinkedHashMap<>(); // 파일 내 중복 코드는 마지막 값
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (NutritionRecord r : chunk) {
+            String code = cut(r.code(), 100), name = cut(r.name(), 200);
+            String serving = cut(r.serving(), 100), maker = cut(r.maker(), 200);
+            Double kcal = NutritionRecord.boxed(r.kcal()), carbs = NutritionRecord.boxed(r.carbsG()),
+                    prot = NutritionRecord.boxed(r.proteinG()), fat = NutritionRecord.boxed(r.fatG()),
+                    sodium = NutritionRecord.boxed(r.sodiumMg());
+            long sum = NutritionItem.checksum(name, kcal, carbs, prot, fat, sodium, serving, maker);
+            byCode.put(code, new Object[]{source, code, name, kcal, carbs, prot, fat, sodium, serving, maker, sum, now});
+        }
+
+        Map<String, Long> existing = new HashMap<>(byCode.size() * 2);
+        named.query("SELECT food_code, row_checksum FROM nutrition_item WHERE source = :source AND food_code IN (:codes)",
+                new MapSqlParameterSource("source", source).addValue("codes", byCode.keySet()),
+                rs -> { existing.put(rs.getString(1), rs.getObject(2, Long.class)); });
+
+        List<Object[]> changed = new ArrayList<>();
+        for (Object[] row : byCode.values()) {
+            if (!Objects.equals(existing.get((String) row[1]), row[10])) changed.add(row);
+        }
+        if (!changed.isEmpty()) {
+            tx.executeWithoutResult(s -> jdbc.batchUpdate(UPSERT_SQL, changed));
+        }
+        return changed.size();
+    }
+
+    private static String cut(String s, int max) {
+        return (s == null || s.length() <= max) ? s : s.substring(0, max);
+    }
+
+    /* ---------- CSV ---------- */
+
+    /** 첫 줄 = 헤더(식품코드, 식품명, 에너지(kcal) ...). 헤더 이름을 키로 JSON 행과 같은 매핑 적용 */
+    private static void readCsv(InputStream in, Charset cs, String source, Consumer<NutritionRecord> sink) throws IOException {
+        Reader r = new BufferedReader(new InputStreamReader(in, cs), 1 << 16); // mark/reset 필요
+        List<String> header = new ArrayList<>();
+        if (!nextRecord(r, header)) return;
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) header.set(0, header.get(0).substring(1)); // BOM
+
+        NutriResponseReader.RowBuilder row = new NutriResponseReader.RowBuilder();
+        List<String> cells = new ArrayList<>(header.size());
+        while (nextRecord(r, cells)) {
+            row.reset();
+            for (int i = 0; i < cells.size() && i < header.size(); i++) row.accept(header.get(i).trim(), cells.get(i));
+            NutritionRecord rec = row.build(source);
+            if (rec != null) sink.accept(rec);
+        }
+    }
+
+    /** RFC 4180 한 레코드 (따옴표 안 쉼표/줄바꿈/"" 이스케이프 지원). EOF 면 false */
+    private static boolean nextRecord(Reader r, List<String> out) throws IOException {
+        out.clear();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false, any = false;
+        int ch;
+        while ((ch = r.read()) != -1) {
+            any = true;
+            char c = (char) ch;
+            if (quoted) {
+                if (c == '"') {
+                    r.mark(1);
+                    int next = r.read();
+                    if (next == '"') cell.append('"');
+                    else { quoted = false; if (next != -1) r.reset(); }
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                cell.append(c);
+            }
+        }
+        if (!any) return false;
+        out.add(cell.toString());
+        return true;
+    }
+}
@@ -0,0 +1,225 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.domain.NutritionItem;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * 로컬 카탈로그 검색용 메모리 색인.
+ * - 식품명을 정규화(소문자, 공백 제거)한 뒤 2-gram(음절 2개) 역색인을 만든다.
+ * - 같은 이름을 자모로 푼 키 / 초성 키로 각각 CompactTrie 를 만든다.
+ * - 검색: 2-gram posting 교집합 → contains 검증(정확/접두/포함) + 자모 접두("닭가스") + 초성("ㄷㄱㅅㅅ"),
+ *   결과가 모자라면 자모 편집거리 1~2 오타 허용. 등급 → 거리 → 인기도(호출측 제공) → 소스 → 길이 순 랭킹
+ * - rebuild()는 새 스냅샷을 만든 뒤 volatile 참조만 교체 → 검색은 락 없이 진행
+ */
+@Component
+public class NutriCatalogIndex {
+
+    /** 검색 우선순위(기존 search 순서와 동일) */
+    public static final List<String> SOURCE_ORDER = List.of("approved", "food", "processed", "material");
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new NutritionRecord[0], new String[0], Map.of(),
+                Map.of(), CompactTrie.EMPTY, CompactTrie.EMPTY, 0L);
+
+        final NutritionRecord[] entries;
+        final String[] keys;                 // 정규화된 식품명 (entries와 같은 인덱스)
+        final Map<Integer, int[]> postings;  // bigram → 오름차순 문서 번호
+        final Map<String, Integer> byCode;   // 식품코드 → 문서 (코드가 겹치면 소스 우선순위가 높은 쪽)
+        final CompactTrie jamo;              // 자모 키 trie (접두/오타)
+        final CompactTrie chosung;           // 초성 키 trie
+        final long version;
+
+        Snapshot(NutritionRecord[] entries, String[] keys, Map<Integer, int[]> postings, Map<String, Integer> byCode,
+                 CompactTrie jamo, CompactTrie chosung, long version) {
+            this.entries = entries; this.keys = keys; this.postings = postings; this.byCode = byCode;
+            this.jamo = jamo; this.chosung = chosung; this.version = version;
+        }
+    }
+
+    // 매치 등급 (작을수록 좋음)
+    private static final int EXACT = 0, PREFIX = 1, CONTAINS = 2, JAMO = 3, FUZZY = 4;
+    private static final int MAX_CANDIDATES = 5_000; // 접두/오타 구간이 너무 넓을 때 랭킹 대상 상한
+
+    private volatile Snapshot snap = Snapshot.EMPTY;
+
+    public boolean isReady() { return snap.entries.length > 0; }
+    public int size()        { return snap.entries.length; }
+    public long version()    { return snap.version; }
+
+    /** 현재 스냅샷의 전체 레코드 (읽기 전용, 파생 구조 재구축용) */
+    public List<NutritionRecord> records() {
+        return Collections.unmodifiableList(Arrays.asList(snap.entries));
+    }
+
+    /** 식품코드로 레코드 (웜 티어 적재용) */
+    public Optional<NutritionRecord> findByCode(String code) {
+        Snapshot s = snap;
+        Integer d = code == null ? null : s.byCode.get(code);
+        return d == null ? Optional.empty() : Optional.of(s.entries[d]);
+    }
+
+    /** 전체 재색인 후 원자적으로 교체 */
+    public void rebuild(List<NutritionItem> items) {
+        int n = items.size();
+        NutritionRecord[] entries = new NutritionRecord[n];
+        String[] keys = new String[n], jamoKeys = new String[n], chosungKeys = new String[n];
+        Map<String, Integer> byCode = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            entries[i] = NutritionRecord.of(items.get(i));
+            keys[i] = normalize(entries[i].name());
+            jamoKeys[i] = Hangul.jamo(keys[i]);
+            chosungKeys[i] = Hangul.chosung(keys[i]);
+            Integer prev = byCode.get(entries[i].code());
+            if (prev == null || sourceRank(entries[i].source()) < sourceRank(entries[prev].source())) {
+                byCode.put(entries[i].code(), i);
+            }
+        }
+
+        // 1-pass: bigram별 문서 수 (문서 안 중복 bigram은 한 번만)
+        Map<Integer, int[]> counts = new HashMap<>(); // {count, lastDoc}
+        for (int d = 0; d < n; d++) {
+            String k = keys[d];
+            for (int i = 0; i + 1 < k.length(); i++) {
+                int[] c = counts.computeIfAbsent(bigram(k, i), x -> new int[]{0, -1});
+                if (c[1] != d) { c[0]++; c[1] = d; }
+            }
+        }
+        // 2-pass: posting 채우기 (문서 번호 오름차순 보장)
+        Map<Integer, int[]> postings = new HashMap<>(counts.size() * 2);
+        Map<Integer, int[]> fill = new HashMap<>(counts.size() * 2); // {pos, lastDoc}
+        counts.forEach((g, c) -> { postings.put(g, new int[c[0]]); fill.put(g, new int[]{0, -1}); });
+        for (int d = 0; d < n; d++) {
+            String k = keys[d];
+            for (int i = 0; i + 1 < k.length(); i++) {
+                int g = bigram(k, i);
+                int[] f = fill.get(g);
+                if (f[1] != d) { postings.get(g)[f[0]++] = d; f[1] = d; }
+            }
+        }
+        snap = new Snapshot(entries, keys, postings, byCode, new CompactTrie(jamoKeys), new CompactTrie(chosungKeys),
+                System.currentTimeMillis());
+    }
+
+    public List<NutritionRecord> search(String term, int limit) {
+        return search(term, limit, code -> 0);
+    }
+
+    /**
+     * 정확 > 접두 > 포함 > 자모/초성 접두 > 오타, 같은 등급이면 거리 → 인기도 → 소스 우선순위 → 짧은 이름 순.
+     * popularity = 식품코드 → 사용 빈도 (후보마다 한 번만 호출)
+     */
+    public List<NutritionRecord> search(String term, int limit, ToIntFunction<String> popularity) {
+        Snapshot s = snap;
+        String q = normalize(term);
+        if (q.isEmpty() || s.entries.length == 0 || limit <= 0) return List.of();
+
+        Map<Integer, Integer> score = new HashMap<>(); // 문서 → 등급*8 + 거리
+        if (Hangul.isChosungQuery(q)) {
+            addRange(score, s.chosung, s.chosung.prefixRange(q), JAMO, 0);
+        } else {
+            if (q.length() == 1) {
+                for (int d = 0; d < s.keys.length; d++) {
+                    if (s.keys[d].indexOf(q.charAt(0)) >= 0) score.put(d, matchRank(s.keys[d], q) * 8);
+                }
+            } else {
+                for (int d : candidates(s, q)) {
+                    if (s.keys[d].contains(q)) score.put(d, matchRank(s.keys[d], q) * 8);
+                }
+            }
+            // 입력 중인 마지막 글자("닭가스" → 닭가슴…) 는 자모 접두로
+            String jq = Hangul.jamo(q);
+            addRange(score, s.jamo, s.jamo.prefixRange(jq), JAMO, 0);
+            // 그래도 모자라면 오타 허용 (짧은 질의는 오타 검색 안 함)
+            if (score.size() < limit && jq.length() >= 4) {
+                int maxDist = jq.length() <= 8 ? 1 : 2;
+                s.jamo.fuzzyPrefix(jq, maxDist, (lo, hi, dist) -> addRange(score, s.jamo, new int[]{lo, hi}, FUZZY, dist));
+            }
+        }
+
+        Map<Integer, Integer> pop = new HashMap<>(score.size() * 2);
+        for (int d : score.keySet()) pop.put(d, popularity.applyAsInt(s.entries[d].code()));
+
+        List<Integer> hits = new ArrayList<>(score.keySet());
+        hits.sort(Comparator
+                .comparingInt((Integer d) -> score.get(d))
+                .thenComparingInt(d -> -pop.get(d))
+                .thenComparingInt(d -> sourceRank(s.entries[d].source()))
+                .thenComparingInt(d -> s.keys[d].length())
+                .thenComparingInt(d -> d));
+
+        List<NutritionRecord> out = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) out.add(s.entries[hits.get(i)]);
+        return out;
+    }
+
+    /** trie 구간의 문서를 후보에 추가 (더 좋은 점수만 반영, 전체 후보 수 상한) */
+    private static void addRange(Map<Integer, Integer> score, CompactTrie trie, int[] range, int tier, int dist) {
+        int v = tier * 8 + dist;
+        for (int p = range[0]; p < range[1]; p++) {
+            int d = trie.doc(p);
+            Integer cur = score.get(d);
+            if (cur == null) {
+                if (score.size() >= MAX_CANDIDATES) break;
+                score.put(d, v);
+            } else if (v < cur) {
+                score.put(d, v);
+            }
+        }
+    }
+
+    /* ---------- helpers ---------- */
+
+    private static int[] candidates(Snapshot s, String q) {
+        // posting이 짧은 bigram부터 교집합
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + 1 < q.length(); i++) {
+            int[] p = s.postings.get(bigram(q, i));
+            if (p == null) return new int[0];
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(a -> a.length));
+        int[] acc = lists.get(0);
+        for (int i = 1; i < lists.size() && acc.length > 0; i++) acc = intersect(acc, lists.get(i));
+        return acc;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) { out[k++] = a[i]; i++; j++; }
+            else if (a[i] < b[j]) i++;
+            else j++;
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    private static int matchRank(String key, String q) {
+        if (key.equals(q)) return EXACT;
+        if (key.startsWith(q)) return PREFIX;
+        return CONTAINS;
+    }
+
+    static int sourceRank(String source) {
+        int r = SOURCE_ORDER.indexOf(source);
+        return r < 0 ? SOURCE_ORDER.size() : r;
+    }
+
+    private static int bigram(String s, int i) {
+        return (s.charAt(i) << 16) | s.charAt(i + 1);
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,189 @@
+package com.healthsync.project.nutri.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import com.healthsync.project.nutri.domain.NutritionItem;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import com.healthsync.project.nutri.repository.NutritionItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 영양정보 카탈로그.
+ * - 4개 데이터셋을 페이지 단위(최대 1000건)로 끌어와 nutrition_item 에 upsert
+ * - 바뀐 행이 있을 때만 메모리 색인(NutriCatalogIndex) 재구축 → CatalogRefreshedEvent 발행
+ * - /api/nutri/search 는 색인에서 바로 응답 (data.go.kr 왕복 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NutriCatalogService {
+
+    private final NutriApiClient client;
+    private final NutritionItemRepository repo;
+    private final NutriCatalogIndex index;
+    private final NutriPopularity popularity;
+    private final DataGoKrProps props;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher events;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /** 기동 시 DB → 색인. DB가 비어 있으면 백그라운드로 최초 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!props.getCatalog().isEnabled()) return;
+        reloadIndex();
+        if (!index.isReady()) {
+            Thread t = new Thread(this::refreshAll, "nutri-catalog-bootstrap");
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    @Scheduled(cron = "${data-go-kr.catalog.refresh-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void scheduledRefresh() {
+        if (props.getCatalog().isEnabled()) refreshAll();
+    }
+
+    /** 전체 소스 증분 동기화 (동시 실행 방지, 호출 예산은 사용자 요청 뒤 순위) */
+    public void refreshAll() {
+        if (!refreshing.compareAndSet(false, true)) return;
+        try {
+            NutriQuota.runInBackground(this::syncAll);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private void syncAll() {
+        int changed = 0;
+        for (String source : NutriCatalogIndex.SOURCE_ORDER) {
+            if (!props.getApis().containsKey(source)) continue;
+            try {
+                changed += syncSource(source);
+            } catch (Exception e) {
+                log.warn("[nutri-catalog] {} 동기화 중단: {}", source, e.toString());
+            }
+        }
+        if (changed > 0 || !index.isReady()) reloadIndex();
+        log.info("[nutri-catalog] 동기화 완료 changed={} indexed={}", changed, index.size());
+    }
+
+    /** 색인에서 검색 (카탈로그 미적재 시 빈 리스트). 사용 빈도로 가산하고 1순위 결과는 빈도에 반영 */
+    public List<NutritionRecord> search(String term, int limit) {
+        List<NutritionRecord> hits = index.search(term, limit, popularity::estimate);
+        if (!hits.isEmpty()) popularity.recordHit(hits.get(0));
+        return hits;
+    }
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    /** 프론트가 이미 쓰는 원본 키(foodNm/enerc/...)로 직렬화 */
+    public ArrayNode toJson(List<NutritionRecord> entries) {
+        ArrayNode arr = mapper.createArrayNode();
+        for (NutritionRecord e : entries) {
+            ObjectNode n = arr.addObject();
+            n.put("source", e.source());
+            n.put("foodCd", e.code());
+            n.put("foodNm", e.name());
+            put(n, "enerc", e.kcal());
+            put(n, "chocdf", e.carbsG());
+            put(n, "prot", e.proteinG());
+            put(n, "fatce", e.fatG());
+            put(n, "nat", e.sodiumMg());
+            n.putNull("sugar"); // 카탈로그는 당류를 적재하지 않음 (키만 맞춰 둠)
+            n.put("foodSize", e.serving());
+            n.put("mkrNm", e.maker());
+        }
+        return arr;
+    }
+
+    /** NaN(값 없음)은 기존처럼 null 로 */
+    private static void put(ObjectNode n, String key, float v) {
+        if (NutritionRecord.has(v)) n.put(key, v);
+        else n.putNull(key);
+    }
+
+    /* ---------- sync ---------- */
+
+    private int syncSource(String source) throws Exception {
+        DataGoKrProps.Catalog c = props.getCatalog();
+        int changed = 0;
+        for (int page = 1; page <= c.getMaxPages(); page++) {
+            Map<String, String> q = new LinkedHashMap<>();
+            q.put("pageNo", String.valueOf(page));
+            q.put("numOfRows", String.valueOf(c.getPageSize()));
+            // 1000건 페이지도 트리/문자열 복사 없이 스트리밍 파싱
+            List<NutritionRecord> rows = client.fetchRecords(source, q);
+
+            List<NutritionItem> items = new ArrayList<>(rows.size());
+            for (NutritionRecord r : rows) items.add(toItem(r));
+            if (!items.isEmpty()) changed += upsertPage(source, items);
+            if (rows.size() < c.getPageSize()) break;
+        }
+        return changed;
+    }
+
+    private int upsertPage(String source, List<NutritionItem> incoming) {
+        Integer n = tx.execute(status -> {
+            Map<String, NutritionItem> byCode = new LinkedHashMap<>();
+            for (NutritionItem it : incoming) byCode.put(it.getFoodCode(), it); // 페이지 내 중복 코드 정리
+
+            Map<String, NutritionItem> existing = repo.findAllBySourceAndFoodCodeIn(source, byCode.keySet())
+                    .stream().collect(Collectors.toMap(NutritionItem::getFoodCode, Function.identity()));
+
+            int cnt = 0;
+            List<NutritionItem> inserts = new ArrayList<>();
+            for (NutritionItem it : byCode.values()) {
+                NutritionItem cur = existing.get(it.getFoodCode());
+                if (cur == null) { inserts.add(it); cnt++; }
+                else if (cur.updateFrom(it)) cnt++;        // dirty checking 으로 UPDATE
+            }
+            repo.saveAll(inserts);
+            return cnt;
+        });
+        return n == null ? 0 : n;
+    }
+
+    private void reloadIndex() {
+        index.rebuild(repo.findAll());
+        events.publishEvent(new CatalogRefreshedEvent(index.version(), index.size()));
+    }
+
+    private static NutritionItem toItem(NutritionRecord r) {
+        return NutritionItem.builder()
+                .source(r.source())
+                .foodCode(cut(r.code(), 100))
+                .foodName(cut(r.name(), 200))
+                .kcal(NutritionRecord.boxed(r.kcal()))
+                .carbsG(NutritionRecord.boxed(r.carbsG()))
+                .proteinG(NutritionRecord.boxed(r.proteinG()))
+                .fatG(NutritionRecord.boxed(r.fatG()))
+                .sodiumMg(NutritionRecord.boxed(r.sodiumMg()))
+                .serving(cut(r.serving(), 100))
+                .maker(cut(r.maker(), 200))
+                .build();
+    }
+
+    private static String cut(String s, int max) {
+        return (s == null || s.length() <= max) ? s : s.substring(0, max);
+    }
+
+}
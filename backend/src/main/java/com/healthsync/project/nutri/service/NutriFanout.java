@@ -0,0 +1,132 @@
+package com.healthsync.project.nutri.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * 여러 data.go.kr API 를 동시에 호출하는 scatter-gather 엔진.
+ * - plan 에 적힌 순서 = 우선순위. 전부 한 번에 던지고, 우선순위 순서대로 결과를 기다림
+ * - 앞 순위가 행을 돌려주면 뒤 순위 호출은 취소 → 최악 지연이 "합"이 아니라 "최대값"
+ * - Tomcat 워커와 분리된 bounded 풀에서 실행 (넘치면 호출 스레드가 직접 실행)
+ * - 다른 서비스의 바깥 병렬 작업(submit)은 별도 풀(nutri-batch-)에서 실행: 바깥 작업이 안에서 firstNonEmpty 로
+ *   nutri-io 작업을 기다리므로, 같은 풀을 쓰면 워커 전부가 자기 뒤에 줄 선 작업을 기다리며 멈출 수 있음
+ */
+@Slf4j
+@Service
+public class NutriFanout {
+
+    public record Step(String api, Map<String, String> filters) {}
+
+    private final NutriApiClient client;
+    private final DataGoKrProps props;
+    private final ObjectMapper mapper;
+    private final ExecutorService pool;
+    private final ExecutorService batchPool;
+
+    public NutriFanout(NutriApiClient client, DataGoKrProps props, ObjectMapper mapper) {
+        this.client = client;
+        this.props = props;
+        this.mapper = mapper;
+        DataGoKrProps.Fanout f = props.getFanout();
+        this.pool = new ThreadPoolExecutor(
+                f.getThreads(), f.getThreads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(f.getQueueCapacity()),
+                new CustomizableThreadFactory("nutri-io-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        int batch = Math.max(1, f.getBatchParallelism());
+        this.batchPool = new ThreadPoolExecutor(
+                batch, batch, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(f.getQueueCapacity()),
+                new CustomizableThreadFactory("nutri-batch-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batchPool.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /** 다른 서비스의 바깥 병렬 작업 (안에서 fan-out 을 기다려도 되는 별도 풀) */
+    public <T> Future<T> submit(Callable<T> task) {
+        return batchPool.submit(NutriQuota.propagate(task));
+    }
+
+    /**
+     * 설정된 API 전부 동시 호출 → 우선순위가 가장 높은 "행 있는" 결과를 반환.
+     * 일부 실패는 빈 결과로 취급하고, 전부 실패했을 때만 예외를 올린다.
+     */
+    public ArrayNode firstNonEmpty(List<Step> plan) {
+        ArrayNode rows = firstNonEmpty(plan, s -> rows(client.getItems(s.api(), s.filters())), ArrayNode::isEmpty);
+        return rows != null ? rows : mapper.createArrayNode();
+    }
+
+    /** 같은 규칙, 스트리밍 파싱된 타입 레코드 버전 */
+    public List<NutritionRecord> firstNonEmptyRecords(List<Step> plan) {
+        List<NutritionRecord> rows = firstNonEmpty(plan, s -> client.getRecords(s.api(), s.filters()), List::isEmpty);
+        return rows != null ? rows : List.of();
+    }
+
+    private interface StepCall<T> {
+        T call(Step step) throws Exception;
+    }
+
+    private <T> T firstNonEmpty(List<Step> plan, StepCall<T> call, Predicate<T> isEmpty) {
+        List<Step> steps = plan.stream().filter(s -> props.getApis().containsKey(s.api())).toList();
+        List<Future<T>> futures = new ArrayList<>(steps.size());
+        for (Step s : steps) {
+            futures.add(pool.submit(NutriQuota.propagate(() -> call.call(s)))); // 호출자 우선순위 유지
+        }
+
+        long deadline = System.nanoTime() + props.getFanout().getTimeout().toNanos();
+        Exception firstError = null;
+        int failed = 0;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    long left = Math.max(0, deadline - System.nanoTime());
+                    T rows = futures.get(i).get(left, TimeUnit.NANOSECONDS);
+                    if (rows != null && !isEmpty.test(rows)) return rows; // 뒤 순위는 finally 에서 취소
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("nutri fan-out interrupted", e);
+                } catch (ExecutionException | TimeoutException e) {
+                    Exception cause = (e instanceof ExecutionException && e.getCause() instanceof Exception c) ? c : e;
+                    log.warn("[nutri] fan-out {} 실패: {}", steps.get(i).api(), cause.toString());
+                    if (firstError == null) firstError = cause;
+                    failed++;
+                }
+            }
+        } finally {
+            for (Future<T> f : futures) f.cancel(true);
+        }
+
+        if (!steps.isEmpty() && failed == steps.size()) {
+            if (firstError instanceof ResponseStatusException rse) throw rse; // 서킷 OPEN 등 → 503 그대로
+            throw new RuntimeException("HTTP 호출 실패: " + firstError.getMessage(), firstError);
+        }
+        return null;
+    }
+
+    /** items 가 배열이면 그대로, 단건 객체면 배열로 감싸서 반환 */
+    private ArrayNode rows(JsonNode node) {
+        if (node instanceof ArrayNode arr) return arr;
+        ArrayNode arr = mapper.createArrayNode();
+        if (node != null && node.isObject() && node.size() > 0) arr.add(node);
+        return arr;
+    }
+}
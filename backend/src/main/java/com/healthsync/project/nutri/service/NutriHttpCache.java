@@ -0,0 +1,74 @@
+package com.healthsync.project.nutri.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.zip.CRC32;
+
+/**
+ * /api/nutri 응답용 HTTP 캐시 헤더.
+ * - 카탈로그 검색: ETag = 색인 버전 + 질의 → 본문을 만들기 전에 If-None-Match 비교 가능
+ * - 실시간 응답(프록시/폴백): ETag = JSON 트리 내용 해시
+ * - 둘 다 weak ETag (같은 버전 안에서 인기도 가산으로 순서가 조금 바뀌어도 의미상 같은 응답)
+ * - Cache-Control: 카탈로그 응답은 다음 동기화(refresh-cron)까지, 실시간 응답은 LIVE_AGE 고정
+ */
+@Component
+@RequiredArgsConstructor
+public class NutriHttpCache {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul"); // @Scheduled(zone) 과 동일
+    private static final Duration MIN_AGE = Duration.ofMinutes(1);
+    /** 실시간 응답은 카탈로그 주기와 무관 → 짧게 */
+    private static final Duration LIVE_AGE = Duration.ofMinutes(1);
+
+    private final DataGoKrProps props;
+    private final NutriCatalogIndex index;
+
+    private volatile CronExpression cron;
+    private volatile String cronSource;
+
+    /** 카탈로그 색인 응답 ETag (kind = search/autocomplete 등 엔드포인트 구분) */
+    public String catalogEtag(String kind, String term, int limit) {
+        CRC32 crc = new CRC32();
+        crc.update((kind + '|' + NutriCatalogIndex.normalize(term) + '|' + limit).getBytes(StandardCharsets.UTF_8));
+        return "W/\"c" + Long.toString(index.version(), 36) + '-' + Long.toHexString(crc.getValue()) + '"';
+    }
+
+    /** 실시간 응답 ETag: JsonNode.hashCode 는 내용 기반(문자열/숫자/필드) → 재기동해도 같은 값 */
+    public static String contentEtag(JsonNode body) {
+        return "W/\"t" + Integer.toHexString(body == null ? 0 : body.hashCode()) + '"';
+    }
+
+    /** 카탈로그 응답: 다음 동기화 시각까지 캐시 허용 (인증 뒤 응답이라 private) */
+    public CacheControl catalogCacheControl() {
+        return CacheControl.maxAge(untilNextRefresh()).cachePrivate();
+    }
+
+    /** 실시간 응답(프록시/폴백): data.go.kr 내용은 동기화 주기와 상관없이 바뀔 수 있음 → 짧은 고정 max-age */
+    public CacheControl liveCacheControl() {
+        return CacheControl.maxAge(LIVE_AGE).cachePrivate();
+    }
+
+    Duration untilNextRefresh() {
+        String expr = props.getCatalog().getRefreshCron();
+        CronExpression c = cron;
+        if (c == null || !expr.equals(cronSource)) {
+            c = CronExpression.parse(expr);
+            cron = c;
+            cronSource = expr;
+        }
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        ZonedDateTime next = c.next(now);
+        if (next == null) return MIN_AGE;
+        Duration d = Duration.between(now, next);
+        return d.compareTo(MIN_AGE) < 0 ? MIN_AGE : d;
+    }
+}
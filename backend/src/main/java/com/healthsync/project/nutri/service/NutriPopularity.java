@@ -0,0 +1,164 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import com.healthsync.project.plan.repository.FoodSelectionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 식품 사용 빈도 추적 + 웜 티어.
+ * - 입력: FoodSelection 저장(가중치 selectionWeight), 카탈로그 검색 1순위 적중(1)
+ * - 빈도는 CountMinSketch(고정 메모리, 주기적 절반 감쇠)로 추정 → 카탈로그 검색/자동완성 랭킹 가산
+ * - 후보(최대 topN × 4) 중 상위 topN 의 NutritionRecord 를 미리 메모리에 올려 둠
+ *   (카탈로그 색인에 있으면 그대로, 없으면 이름으로 실시간 조회 1회) → 단건 조회는 JVM 밖으로 나가지 않음
+ * 식품 식별은 카탈로그 식품코드(FoodSelection.externalId) 기준.
+ */
+@Slf4j
+@Component
+public class NutriPopularity implements MeterBinder {
+
+    private final DataGoKrProps props;
+    private final NutriCatalogIndex index;
+    private final FoodSelectionRepository selections;
+    private final ObjectProvider<NutriService> live; // NutriService 가 웜 티어를 조회하므로 지연 조회로 순환 회피
+
+    private final CountMinSketch sketch;
+
+    /** 웜 티어 후보: 식품코드 → 마지막으로 본 이름 (실시간 prefetch 용) */
+    private final Map<String, String> candidates = new ConcurrentHashMap<>();
+    private volatile int floor; // 직전 재계산에서 후보로 남은 최소 추정치
+
+    private record Warm(Map<String, NutritionRecord> byCode, Map<String, NutritionRecord> byName) {
+        static final Warm EMPTY = new Warm(Map.of(), Map.of());
+    }
+
+    private volatile Warm warm = Warm.EMPTY;
+    private final LongAdder warmHits = new LongAdder();
+
+    public NutriPopularity(DataGoKrProps props, NutriCatalogIndex index,
+                           FoodSelectionRepository selections, ObjectProvider<NutriService> live) {
+        this.props = props;
+        this.index = index;
+        this.selections = selections;
+        this.live = live;
+        DataGoKrProps.Popularity p = props.getPopularity();
+        this.sketch = new CountMinSketch(p.getDepth(), p.getWidth(), p.getDecaySample());
+    }
+
+    /* ---------- 입력 ---------- */
+
+    /** 사용자가 식품을 골라 저장함 (CUSTOM 등 식품코드가 없으면 무시) */
+    public void recordSelection(String code, String label) {
+        record(code, label, props.getPopularity().getSelectionWeight());
+    }
+
+    /** 카탈로그 검색 1순위 결과 */
+    public void recordHit(NutritionRecord r) {
+        record(r.code(), r.name(), 1);
+    }
+
+    private void record(String code, String name, int weight) {
+        if (!props.getPopularity().isEnabled() || code == null || code.isBlank() || weight <= 0) return;
+        int est = sketch.add(code, weight);
+        int cap = capacity();
+        if (candidates.containsKey(code) || candidates.size() < cap || est > floor) {
+            candidates.put(code, name == null ? "" : name);
+        }
+    }
+
+    /* ---------- 조회 ---------- */
+
+    /** 랭킹 가산용 추정 빈도 */
+    public int estimate(String code) {
+        return code == null || !props.getPopularity().isEnabled() ? 0 : sketch.estimate(code);
+    }
+
+    /** 웜 티어에서 이름(정규화 일치)으로 */
+    public Optional<NutritionRecord> warmByName(String name) {
+        NutritionRecord r = warm.byName().get(NutriCatalogIndex.normalize(name));
+        if (r != null) warmHits.increment();
+        return Optional.ofNullable(r);
+    }
+
+    /* ---------- 웜 티어 ---------- */
+
+    /** 기동 시 저장된 선택 이력으로 sketch 를 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!props.getPopularity().isEnabled()) return;
+        int weight = props.getPopularity().getSelectionWeight();
+        for (Object[] row : selections.countByExternalId()) {
+            long n = ((Number) row[1]).longValue() * weight;
+            record((String) row[0], null, (int) Math.min(Integer.MAX_VALUE, n));
+        }
+        NutriQuota.runInBackground(this::refreshWarm);
+    }
+
+    /** 색인이 바뀌면 웜 레코드도 새 값으로 */
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent e) {
+        if (props.getPopularity().isEnabled()) NutriQuota.runInBackground(this::refreshWarm);
+    }
+
+    @Scheduled(fixedDelayString = "${data-go-kr.popularity.refresh-interval:PT1M}")
+    public void scheduledRefresh() {
+        if (props.getPopularity().isEnabled()) NutriQuota.runInBackground(this::refreshWarm);
+    }
+
+    /** 후보를 추정치 순으로 정리하고 상위 topN 레코드를 미리 적재 (실시간 조회는 BACKGROUND 예산으로) */
+    synchronized void refreshWarm() {
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(candidates.size());
+        for (String code : candidates.keySet()) ranked.add(Map.entry(code, sketch.estimate(code)));
+        ranked.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+
+        int cap = capacity();
+        for (int i = cap; i < ranked.size(); i++) candidates.remove(ranked.get(i).getKey());
+        floor = ranked.size() >= cap ? ranked.get(cap - 1).getValue() : 0;
+
+        Warm prev = warm;
+        Map<String, NutritionRecord> byCode = new HashMap<>();
+        Map<String, NutritionRecord> byName = new HashMap<>();
+        int topN = Math.min(props.getPopularity().getTopN(), ranked.size());
+        int fetched = 0;
+        for (int i = 0; i < topN; i++) {
+            String code = ranked.get(i).getKey();
+            if (ranked.get(i).getValue() == 0) break; // 감쇠로 사라진 항목
+            NutritionRecord r = index.findByCode(code).orElse(prev.byCode().get(code));
+            if (r == null) {
+                String name = candidates.get(code);
+                if (name == null || name.isBlank()) continue;
+                r = live.getObject().findRecord(name).orElse(null); // 색인 밖 식품만 실시간 1회
+                if (r == null) continue;
+                fetched++;
+            }
+            byCode.put(code, r);
+            byName.putIfAbsent(NutriCatalogIndex.normalize(r.name()), r);
+        }
+        warm = new Warm(Map.copyOf(byCode), Map.copyOf(byName));
+        log.debug("[nutri-popularity] warm={} candidates={} liveFetched={}", byCode.size(), candidates.size(), fetched);
+    }
+
+    private int capacity() {
+        return Math.max(1, props.getPopularity().getTopN() * 4);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("nutri.popularity.warm.size", this, p -> p.warm.byCode().size()).register(registry);
+        Gauge.builder("nutri.popularity.candidates", candidates, Map::size).register(registry);
+        FunctionCounter.builder("nutri.popularity.warm.hits", warmHits, LongAdder::sum).register(registry);
+    }
+}
@@ -0,0 +1,217 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * data.go.kr 호출 예산 (API 한 항목 = 서비스키 × API 하나 = 예산 하나).
+ * - 초당 한도: token bucket (perSecond 로 채워지고 burst 까지 쌓임)
+ * - 일일 한도: 자정(Asia/Seoul) 기준 사용량. 프로세스 메모리 값이라 재기동 시 0 부터 다시 셈
+ * - 우선순위: 사용자 요청(INTERACTIVE)이 기본, 카탈로그 동기화/프리셋 갱신 등은 BACKGROUND.
+ *   BACKGROUND 는 버킷의 일부(backgroundBurstReserve)와 일일 한도의 일부(backgroundReserve)를 사용자 몫으로 남기고 사용
+ * - 일일 잔여가 degradeAt 이하로 떨어지면 사용자 요청도 거절 → NutriApiClient 가 stale 캐시로만 응답 (cache-only)
+ * - 토큰이 없으면 우선순위별 최대 대기시간까지 기다리고, 넘으면 429 로 거절
+ * 예산은 NutriCallGuard 가 벌크헤드 permit 을 잡기 전에 확보 (대기 중에 permit 을 묶어 두지 않음).
+ * 그 뒤 서킷 OPEN/벌크헤드 초과로 거절되면 refund() 로 되돌림 → 거절된 호출은 소모하지 않음.
+ * 우선순위는 ThreadLocal 이라 다른 풀로 넘길 때는 propagate() 로 감싸야 함 (NutriFanout 이 처리).
+ */
+@Slf4j
+@Component
+public class NutriQuota implements MeterBinder {
+
+    public enum Priority { INTERACTIVE, BACKGROUND }
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final ThreadLocal<Priority> CURRENT = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+    private final DataGoKrProps props;
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    public NutriQuota(DataGoKrProps props) {
+        this.props = props;
+    }
+
+    /* ---------- 우선순위 컨텍스트 ---------- */
+
+    public static Priority current() {
+        return CURRENT.get();
+    }
+
+    /** 백그라운드 작업 구간 (이 안의 호출은 사용자 요청 뒤로 밀림) */
+    public static void runInBackground(Runnable task) {
+        Priority prev = CURRENT.get();
+        CURRENT.set(Priority.BACKGROUND);
+        try {
+            task.run();
+        } finally {
+            CURRENT.set(prev);
+        }
+    }
+
+    /** 제출 시점의 우선순위를 실행 스레드로 넘김 */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Priority p = CURRENT.get();
+        return () -> {
+            Priority prev = CURRENT.get();
+            CURRENT.set(p);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.set(prev);
+            }
+        };
+    }
+
+    /* ---------- 예산 ---------- */
+
+    /** 호출 1건 예산 확보. 못 얻으면 429 ResponseStatusException */
+    public void acquire(String apiName) {
+        DataGoKrProps.Quota q = props.getQuota();
+        if (!q.isEnabled()) return;
+        Budget b = budget(apiName);
+        Priority p = current();
+        long deadline = System.nanoTime() + (p == Priority.BACKGROUND ? q.getBackgroundMaxWait() : q.getInteractiveMaxWait()).toNanos();
+
+        while (true) {
+            long waitNanos;
+            synchronized (b) {
+                b.refill();
+                long remaining = b.remaining();
+                if (p == Priority.BACKGROUND && remaining <= b.daily * q.getBackgroundReserve()) {
+                    throw b.shed(p, "daily budget reserved for user requests");
+                }
+                if (remaining <= b.daily * q.getDegradeAt()) {
+                    throw b.shed(p, "daily budget nearly exhausted (cache-only)");
+                }
+                double need = 1 + (p == Priority.BACKGROUND ? b.burst * q.getBackgroundBurstReserve() : 0);
+                if (b.tokens >= need) {
+                    b.tokens -= 1;
+                    b.usedToday++;
+                    return;
+                }
+                waitNanos = (long) ((need - b.tokens) / b.perSecond * 1e9);
+            }
+            if (System.nanoTime() + waitNanos > deadline) {
+                throw b.shed(p, "rate limit");
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw b.shed(p, "interrupted");
+            }
+        }
+    }
+
+    /** acquire 로 얻은 1건을 되돌림 (호출이 나가기 전에 거절된 경우) */
+    public void refund(String apiName) {
+        if (!props.getQuota().isEnabled()) return;
+        Budget b = budget(apiName);
+        synchronized (b) {
+            b.refill();
+            b.tokens = Math.min(b.burst, b.tokens + 1);
+            if (b.usedToday > 0) b.usedToday--; // 그 사이 자정이 지나 0 으로 초기화됐으면 음수로 내리지 않음
+        }
+    }
+
+    /** 일일 잔여가 degrade 임계 이하 → 캐시로만 응답해야 하는 상태 */
+    public boolean isCacheOnly(String apiName) {
+        DataGoKrProps.Quota q = props.getQuota();
+        if (!q.isEnabled()) return false;
+        Budget b = budget(apiName);
+        synchronized (b) {
+            b.refill();
+            return b.remaining() <= b.daily * q.getDegradeAt();
+        }
+    }
+
+    private Budget budget(String apiName) {
+        return budgets.computeIfAbsent(apiName, Budget::new);
+    }
+
+    private final class Budget {
+        final String api;
+        final double perSecond, burst;
+        final long daily;
+        final LongAdder shedInteractive = new LongAdder();
+        final LongAdder shedBackground = new LongAdder();
+
+        // 아래 필드는 this 모니터로 보호
+        double tokens;
+        long lastRefill = System.nanoTime();
+        long usedToday;
+        LocalDate day = LocalDate.now(ZONE);
+
+        Budget(String api) {
+            this.api = api;
+            DataGoKrProps.Quota q = props.getQuota();
+            DataGoKrProps.Api cfg = props.getApis().get(api);
+            this.perSecond = Math.max(0.1, (cfg != null && cfg.getPerSecond() != null) ? cfg.getPerSecond() : q.getPerSecond());
+            this.burst = Math.max(1, q.getBurst());
+            this.daily = Math.max(1, (cfg != null && cfg.getDailyLimit() != null) ? cfg.getDailyLimit() : q.getDailyLimit());
+            this.tokens = burst;
+        }
+
+        void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefill) / 1e9 * perSecond);
+            lastRefill = now;
+            LocalDate today = LocalDate.now(ZONE);
+            if (!today.equals(day)) {
+                day = today;
+                usedToday = 0;
+            }
+        }
+
+        long remaining() {
+            return Math.max(0, daily - usedToday);
+        }
+
+        ResponseStatusException shed(Priority p, String reason) {
+            (p == Priority.BACKGROUND ? shedBackground : shedInteractive).increment();
+            log.debug("[nutri] quota {} {} 거절: {}", api, p, reason);
+            return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "영양정보 API(" + api + ") 호출 한도: " + reason);
+        }
+
+        synchronized double remainingToday() {
+            refill();
+            return remaining();
+        }
+
+        synchronized double availableTokens() {
+            refill();
+            return tokens;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String api : props.getApis().keySet()) {
+            Budget b = budget(api);
+            Gauge.builder("nutri.quota.remaining", b, Budget::remainingToday)
+                    .description("오늘 남은 호출 수").tag("api", api).register(registry);
+            Gauge.builder("nutri.quota.tokens", b, Budget::availableTokens).tag("api", api).register(registry);
+            Gauge.builder("nutri.quota.cache_only", this, x -> x.isCacheOnly(api) ? 1 : 0).tag("api", api).register(registry);
+            FunctionCounter.builder("nutri.quota.shed", b.shedInteractive, LongAdder::sum)
+                    .tag("api", api).tag("priority", "interactive").register(registry);
+            FunctionCounter.builder("nutri.quota.shed", b.shedBackground, LongAdder::sum)
+                    .tag("api", api).tag("priority", "background").register(registry);
+        }
+    }
+}
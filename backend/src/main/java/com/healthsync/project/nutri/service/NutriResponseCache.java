@@ -0,0 +1,173 @@
+package com.healthsync.project.nutri.service;
+
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * NutriApiClient.getItems/getRecords 앞단 응답 캐시.
+ * - key = kind(tree/records) + apiName + 정렬된 sanitize 결과 (파라미터 순서가 달라도 같은 키)
+ * - API별 TTL, NODATA(03/10 → 빈 결과)는 짧은 negative TTL
+ * - 같은 키 동시 miss 는 한 번만 호출(single-flight), 나머지는 그 결과를 기다림
+ * - 최대 건수 초과 시 LRU 제거
+ * - 만료된 엔트리도 LRU 에서 밀려날 때까지 남겨 두고, 장애 시 getStale 로 (maxStale 이내만) 재사용
+ */
+@Component
+public class NutriResponseCache implements MeterBinder {
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws IOException;
+    }
+
+    private record Entry(Object value, long expiresAt, boolean negative) {}
+
+    private final DataGoKrProps props;
+    private final Map<String, Entry> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    /** 로더가 취소됐을 때 공유 future 에 넣는 표시 (기다리던 쪽은 다시 시도) */
+    private static final Object LEADER_CANCELLED = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    public NutriResponseCache(DataGoKrProps props) {
+        this.props = props;
+        int max = props.getCache().getMaxEntries();
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) { // access-order = LRU
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= max) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /** kind: 같은 요청이라도 표현(tree/records)이 다르면 별도 엔트리 */
+    public static String key(String kind, String apiName, Map<String, String> query) {
+        return kind + ":" + apiName + "|" + new TreeMap<>(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String kind, String apiName, Map<String, String> query,
+                     Loader<T> loader, Predicate<T> isEmpty) throws IOException {
+        if (!props.getCache().isEnabled()) return loader.load();
+
+        String key = key(kind, apiName, query);
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(key);
+        }
+        if (e != null && e.expiresAt() > System.currentTimeMillis()) {
+            (e.negative() ? negativeHits : hits).increment();
+            return (T) e.value();
+        }
+        misses.increment();
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running;
+        while ((running = inflight.putIfAbsent(key, mine)) != null) {
+            coalesced.increment();
+            Object v = await(running);
+            if (v != LEADER_CANCELLED) return (T) v;
+            // 앞선 호출자가 취소됨 → 다시 시도 (내가 로드하거나 새 로더를 기다림)
+        }
+        try {
+            T value = loader.load();
+            boolean negative = isEmpty.test(value);
+            Duration ttl = negative ? props.getCache().getNegativeTtl() : ttlOf(apiName);
+            synchronized (entries) {
+                entries.put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis(), negative));
+            }
+            mine.complete(value);
+            return value;
+        } catch (CancellationException ex) {
+            // 로더 자신이 취소된 것 (NutriFanout 이 진 단계를 cancel) → 기다리던 다른 요청은 실패시키지 않고 재시도
+            inflight.remove(key, mine);
+            mine.complete(LEADER_CANCELLED);
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /** 만료됐어도 maxStale 이내면 반환 (data.go.kr 장애 시 대체용). 없으면 null */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(String kind, String apiName, Map<String, String> query) {
+        if (!props.getCache().isEnabled()) return null;
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(key(kind, apiName, query));
+        }
+        if (e == null || e.expiresAt() + props.getCache().getMaxStale().toMillis() < System.currentTimeMillis()) {
+            return null;
+        }
+        staleHits.increment();
+        return (T) e.value();
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Duration ttlOf(String apiName) {
+        DataGoKrProps.Api api = props.getApis().get(apiName);
+        return (api != null && api.getCacheTtl() != null) ? api.getCacheTtl() : props.getCache().getTtl();
+    }
+
+    private static Object await(CompletableFuture<Object> f) throws IOException {
+        try {
+            return f.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("nutri cache wait interrupted", ie);
+        } catch (ExecutionException ee) {
+            Throwable c = ee.getCause();
+            if (c instanceof IOException io) throw io;
+            if (c instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(c);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("nutri.cache.requests", hits, LongAdder::sum).tag("result", "hit").register(registry);
+        FunctionCounter.builder("nutri.cache.requests", negativeHits, LongAdder::sum).tag("result", "negative-hit").register(registry);
+        FunctionCounter.builder("nutri.cache.requests", misses, LongAdder::sum).tag("result", "miss").register(registry);
+        FunctionCounter.builder("nutri.cache.requests", staleHits, LongAdder::sum).tag("result", "stale").register(registry);
+        FunctionCounter.builder("nutri.cache.coalesced", coalesced, LongAdder::sum).register(registry);
+        FunctionCounter.builder("nutri.cache.evictions", evictions, LongAdder::sum).register(registry);
+        Gauge.builder("nutri.cache.size", this, NutriResponseCache::size).register(registry);
+    }
+}
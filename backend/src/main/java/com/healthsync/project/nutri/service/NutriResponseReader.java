@@ -0,0 +1,213 @@
+package com.healthsync.project.nutri.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.healthsync.project.nutri.dto.NutritionRecord;
+import com.healthsync.project.nutri.dto.ServingSize;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.healthsync.project.nutri.dto.NutritionRecord.NONE;
+
+/**
+ * data.go.kr 응답을 JsonParser 로 한 번 훑으면서 바로 NutritionRecord 로 변환.
+ * - 숫자/중량 파싱은 여기서 한 번만 (float 필드로 저장)
+ * - String 버퍼 / readTree 트리 / translateKeys 복사본 없이 InputStream 에서 직접 읽음
+ * - response.header.resultCode 검사 (03/10 → 빈 결과, 그 외 00 아니면 예외)
+ * - 행 위치: body.items.item[] / body.items[] / 단건 item 객체 / 다운로드 파일의 records[]
+ */
+@Component
+public class NutriResponseReader {
+
+    // 필드명 매핑 (원본 키 → 한글 표준 키)
+    static final Map<String, String> FIELD_NAME_MAP = Map.ofEntries(
+            Map.entry("foodCd", "식품코드"),
+            Map.entry("foodNm", "식품명"),
+            // ✅ 공공데이터포털(Korean) 주요 키 매핑 추가
+            Map.entry("DESC_KOR", "식품명"),
+            Map.entry("NUTR_CONT1", "에너지(kcal)"),   // kcal
+            Map.entry("NUTR_CONT2", "탄수화물(g)"),
+            Map.entry("NUTR_CONT3", "단백질(g)"),
+            Map.entry("NUTR_CONT4", "지방(g)"),
+            Map.entry("SERVING_WT", "식품중량"),
+            Map.entry("SERVING_SIZE", "식품중량"),
+            Map.entry("SERVING_UNIT", "영양성분함량기준량"),
+            Map.entry("baseQty", "영양성분함량기준량"),
+            Map.entry("enerc", "에너지(kcal)"),
+            Map.entry("prot", "단백질(g)"),
+            Map.entry("fatce", "지방(g)"),
+            Map.entry("chocdf", "탄수화물(g)"),
+            Map.entry("nat", "나트륨(mg)"),
+            Map.entry("crtYmd", "생성일자"),
+            Map.entry("crtrYmd", "기준일자"),
+            Map.entry("insttNm", "기관명"),
+            Map.entry("srcNm", "출처명"),
+            Map.entry("foodSize", "식품중량"),
+            Map.entry("imptYn", "수입 여부"),
+            Map.entry("cooNm", "원산지국 명"),
+            Map.entry("companyNm", "업체명"),
+            Map.entry("mkrNm", "제조사명"),
+            Map.entry("imptrNm", "수입업체명"),
+            Map.entry("rtlBzentyNm", "유통업체명"),
+            Map.entry("instt_code", "제공기관 코드")
+    );
+
+    private static final Set<String> ROW_CONTAINERS = Set.of("item", "items", "records", "data");
+
+    private final JsonFactory factory = new JsonFactory();
+
+    public List<NutritionRecord> read(String source, InputStream in) throws IOException {
+        List<NutritionRecord> rows = new ArrayList<>();
+        String code = read(source, in, rows::add);
+
+        // ✅ 03(NODATA), 10(INVALID_REQUEST_PARAMETER) 은 폴백을 위해 빈 결과
+        if ("03".equals(code) || "10".equals(code)) return List.of();
+        return Collections.unmodifiableList(rows); // 캐시에 공유되므로 읽기 전용
+    }
+
+    /**
+     * 행을 모으지 않고 sink 로 바로 흘려보냄 (대용량 다운로드 파일 적재용).
+     * resultCode 를 돌려주며, 헤더가 있는 응답은 00/03/10 만 통과 (다운로드 파일은 헤더 없음 → null)
+     */
+    public String read(String source, InputStream in, Consumer<NutritionRecord> sink) throws IOException {
+        try (JsonParser p = factory.createParser(in)) {
+            Ctx ctx = new Ctx(source, sink);
+            if (p.nextToken() != null) walk(p, null, ctx);
+
+            if (ctx.code != null && !"00".equals(ctx.code) && !"03".equals(ctx.code) && !"10".equals(ctx.code)) {
+                throw new IllegalStateException("API 오류: " + ctx.code + " - " + ctx.msg);
+            }
+            return ctx.code;
+        }
+    }
+
+    /* ---------- streaming walk ---------- */
+
+    private static final class Ctx {
+        final String source;
+        final Consumer<NutritionRecord> sink;
+        final RowBuilder row = new RowBuilder();
+        String code, msg;
+        Ctx(String source, Consumer<NutritionRecord> sink) { this.source = source; this.sink = sink; }
+    }
+
+    /** 현재 토큰(값 시작)부터 해당 값 끝까지 소비 */
+    private void walk(JsonParser p, String field, Ctx ctx) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            if ("item".equals(field)) { // 단건 item 객체
+                readRow(p, ctx);
+                return;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.getCurrentName();
+                p.nextToken();
+                walk(p, name, ctx);
+            }
+        } else if (t == JsonToken.START_ARRAY) {
+            boolean rows = field != null && ROW_CONTAINERS.contains(field);
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                if (rows && p.currentToken() == JsonToken.START_OBJECT) readRow(p, ctx);
+                else walk(p, null, ctx);
+            }
+        } else if (t.isScalarValue()) {
+            if ("resultCode".equals(field)) ctx.code = p.getValueAsString();
+            else if ("resultMsg".equals(field)) ctx.msg = p.getValueAsString();
+        }
+    }
+
+    /** 평평한 item 객체 하나 → NutritionRecord (중첩 값은 건너뜀) */
+    private void readRow(JsonParser p, Ctx ctx) throws IOException {
+        RowBuilder row = ctx.row.reset();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String key = p.getCurrentName();
+            JsonToken v = p.nextToken();
+            if (!v.isScalarValue()) { p.skipChildren(); continue; }
+            row.accept(key, p.getValueAsString());
+        }
+        NutritionRecord r = row.build(ctx.source);
+        if (r != null) ctx.sink.accept(r);
+    }
+
+    /**
+     * 키/값 쌍 → NutritionRecord. JSON 행과 CSV 행(헤더=키)이 같은 매핑을 쓰도록 분리.
+     * 한 스레드에서 reset() 후 재사용.
+     */
+    static final class RowBuilder {
+        private String code, name, altName, category, serving, maker;
+        private float kcal, carbs, prot, fat, sodium;
+
+        RowBuilder reset() {
+            code = name = altName = category = serving = maker = null;
+            kcal = carbs = prot = fat = sodium = NONE;
+            return this;
+        }
+
+        void accept(String key, String text) {
+            if (key == null || text == null || (text = text.trim()).isEmpty()) return;
+            switch (FIELD_NAME_MAP.getOrDefault(key, key)) {
+                case "식품코드", "FOOD_CD"      -> code = text;
+                case "식품명"                   -> name = text;
+                case "prdlstNm", "MATRL_NM"    -> { if (altName == null) altName = text; }
+                case "에너지(kcal)"            -> kcal = num(text);
+                case "탄수화물(g)"             -> carbs = num(text);
+                case "단백질(g)"               -> prot = num(text);
+                case "지방(g)"                 -> fat = num(text);
+                case "나트륨(mg)"              -> sodium = num(text);
+                case "foodLv3Nm", "GROUP_NAME" -> category = text;
+                case "식품중량"                 -> serving = text;
+                case "영양성분함량기준량"         -> { if (serving == null) serving = text; }
+                case "제조사명"                 -> maker = text;
+                case "업체명"                   -> { if (maker == null) maker = text; }
+                default -> { }
+            }
+        }
+
+        /** 식품명이 없으면 null */
+        NutritionRecord build(String source) {
+            String n = name != null ? name : altName;
+            if (n == null) return null;
+            // 중량 환산도 여기서 한 번만 (이후 소비처는 servingG 를 그대로 사용)
+            return new NutritionRecord(source, category, code != null ? code : n, n,
+                    kcal, carbs, prot, fat, sodium, ServingSize.grams(serving), serving, maker);
+        }
+    }
+
+    /** "1,234", "123 kcal", "-" 같은 값 방어 (실패 시 NaN). 정규식/임시 문자열 없이 한 번 훑음 */
+    private static float num(String s) {
+        int n = s.length(), i = 0;
+        while (i < n && !isDigit(s.charAt(i)) && s.charAt(i) != '-' && s.charAt(i) != '.') i++;
+        boolean neg = i < n && s.charAt(i) == '-';
+        if (neg) i++;
+
+        double v = 0, frac = 0;
+        boolean any = false;
+        for (; i < n; i++) {
+            char c = s.charAt(i);
+            if (isDigit(c)) {
+                any = true;
+                if (frac == 0) v = v * 10 + (c - '0');
+                else { v += (c - '0') * frac; frac /= 10; }
+            } else if (c == '.' && frac == 0) {
+                frac = 0.1;
+            } else if (c != ',') {
+                break; // 단위 등 뒤따르는 문자
+            }
+        }
+        if (!any) return NONE;
+        return (float) (neg ? -v : v);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -5,53 +5,28 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 //import com.healthsync.project.nutri.dto.NutriInfoDto;
+import com.healthsync.project.nutri.config.DataGoKrProps;
+import com.healthsync.project.nutri.dto.NutritionRecord;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.RoundingMode;
-import java.math.BigDecimal;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Service
 @RequiredArgsConstructor
 public class NutriService {
 
     private final NutriApiClient apiClient;
+    private final NutriFanout fanout;
+    private final DataGoKrProps props;
     private final ObjectMapper mapper;
+    private final NutriPopularity popularity;
 
-    // 필드명 매핑
-    private static final Map<String, String> FIELD_NAME_MAP = Map.ofEntries(
-            Map.entry("foodCd", "식품코드"),
-            Map.entry("foodNm", "식품명"),
-            // ✅ 공공데이터포털(Korean) 주요 키 매핑 추가
-            Map.entry("DESC_KOR", "식품명"),
-            Map.entry("NUTR_CONT1", "에너지(kcal)"),   // kcal
-            Map.entry("NUTR_CONT2", "탄수화물(g)"),
-            Map.entry("NUTR_CONT3", "단백질(g)"),
-            Map.entry("NUTR_CONT4", "지방(g)"),
-            Map.entry("SERVING_WT", "식품중량"),
-            Map.entry("SERVING_SIZE", "식품중량"),
-            Map.entry("SERVING_UNIT", "영양성분함량기준량"),
-            Map.entry("baseQty", "영양성분함량기준량"),
-            Map.entry("enerc", "에너지(kcal)"),
-            Map.entry("prot", "단백질(g)"),
-            Map.entry("fatce", "지방(g)"),
-            Map.entry("chocdf", "탄수화물(g)"),
-            Map.entry("nat", "나트륨(mg)"),
-            Map.entry("crtYmd", "생성일자"),
-            Map.entry("crtrYmd", "기준일자"),
-            Map.entry("insttNm", "기관명"),
-            Map.entry("srcNm", "출처명"),
-            Map.entry("foodSize", "식품중량"),
-            Map.entry("imptYn", "수입 여부"),
-            Map.entry("cooNm", "원산지국 명"),
-            Map.entry("companyNm", "업체명"),
-            Map.entry("mkrNm", "제조사명"),
-            Map.entry("imptrNm", "수입업체명"),
-            Map.entry("rtlBzentyNm", "유통업체명"),
-            Map.entry("instt_code", "제공기관 코드")
-    );
+    // 필드명 매핑 (원본 키 → 한글 표준 키) — 스트리밍 파서와 공유
+    private static final Map<String, String> FIELD_NAME_MAP = NutriResponseReader.FIELD_NAME_MAP;
 
     // 응답 필드 변환
     public JsonNode translateKeys(JsonNode original) {
@@ -76,82 +51,86 @@ public class NutriService {
         JsonNode raw = apiClient.getItems(apiName, params);
         return translateKeys(raw);
     }
-    public Integer findKcalPer100g(String name) {
+    /** 이름으로 대표 레코드 1건 (웜 티어 → approved → processed → food 를 동시에 호출하고 우선순위대로 첫 결과) */
+    public Optional<NutritionRecord> findRecord(String name) {
+        Optional<NutritionRecord> warm = popularity.warmByName(name);
+        if (warm.isPresent()) return warm;
         try {
-            ArrayNode list = null;
-
-            // 1) approved
-            list = asArray(apiClient.getItems("approved", Map.of(
-                    "foodNm", name, "numOfRows","1", "pageNo","1", "type","json"
-            )));
-
-            // 2) processed
-            if (list == null || list.size() == 0) {
-                list = asArray(apiClient.getItems("processed", Map.of(
-                        "foodNm", name, "numOfRows","1", "pageNo","1", "type","json"
-                )));
-            }
-
-            // (원하면 아주 마지막에 approved를 “검색 없이” 한 페이지만 긁는 폴백으로 둬도 됨)
-            // if (list == null || list.size() == 0) {
-            //     list = asArray(apiClient.getItems("approved", Map.of(
-            //         "numOfRows","1","pageNo","1","type","json"
-            //     )));
-            // }
-
-            // 3) food
-            if (list == null || list.size() == 0) {
-                list = asArray(apiClient.getItems("food", Map.of(
-                        "foodNm", name, "numOfRows","1", "pageNo","1", "type","json"
-                )));
-            }
-
-            // 번역된 키로 통일해서 뽑기
-            JsonNode tr = translateKeys(list);
-            if (tr == null || !tr.elements().hasNext()) return null;
-            JsonNode firstTr = tr.elements().next();
-
-            String kcalStr   = optText(firstTr, "에너지(kcal)");   // 스냅샷 필드명과 일치
-            String weightStr = firstNonBlank(
-                    optText(firstTr, "식품중량"),
-                    optText(firstTr, "영양성분함량기준량")
-            );
-            if (kcalStr == null || kcalStr.isBlank()) return null;
-
-            BigDecimal kcal  = parseDecimal(kcalStr);
-            if (kcal == null) return null;
-
-            BigDecimal grams = parseServingToGrams(weightStr);
-            if (grams == null || grams.compareTo(BigDecimal.ZERO) == 0) {
-                return kcal.setScale(0, RoundingMode.HALF_UP).intValue(); // 100g 가정
-            }
-
-            BigDecimal per100g = kcal.divide(grams, 6, RoundingMode.HALF_UP)
-                    .multiply(new BigDecimal("100"));
-            return per100g.setScale(0, RoundingMode.HALF_UP).intValue();
-
+            List<NutritionRecord> list = fanout.firstNonEmptyRecords(List.of(
+                    kcalStep("approved", name),
+                    kcalStep("processed", name),
+                    kcalStep("food", name)
+            ));
+            return list.stream().findFirst();
         } catch (Exception e) {
-            // (선택) 로그만 남기고 null
-            return null;
+            // (선택) 로그만 남기고 empty
+            return Optional.empty();
         }
     }
 
-    private static String optText(JsonNode node, String field) {
-        return Optional.ofNullable(node.get(field)).map(JsonNode::asText).orElse(null);
+    public Integer findKcalPer100g(String name) {
+        // kcal/중량은 수집 시점에 이미 float 로 파싱돼 있음 → 나눗셈만
+        return findRecord(name)
+                .map(NutritionRecord::kcalPer100g)
+                .filter(k -> k >= 0)
+                .orElse(null);
     }
 
-    private static BigDecimal parseDecimal(String s) {
-        if (s == null) return null;
-        // "123.4", "123", "123 kcal" 등 잡스러운 값 방어
-        String cleaned = s.replaceAll("[^0-9.\\-]", "");
-        if (cleaned.isBlank()) return null;
+    /**
+     * 여러 이름을 한 번에 100g 기준 kcal 로 (프리셋/식단 일괄 계산용).
+     * - 이름 정리(trim) 후 중복 제거, 이름마다 API 3개를 동시에 부르므로 동시 이름 수는 batchParallelism 으로 제한
+     *   (이름 단위 작업은 NutriFanout 의 batch 풀, 그 안의 API 호출은 nutri-io 풀 → 서로 기다리며 막히지 않음)
+     * - 응답 캐시를 그대로 타므로 이미 조회한 이름은 네트워크 호출 없음
+     * - 못 찾은 이름은 결과 맵에서 빠짐
+     */
+    public Map<String, Integer> findKcalPer100g(Collection<String> names) {
+        Set<String> unique = new LinkedHashSet<>();
+        for (String n : names) {
+            if (n != null && !n.isBlank()) unique.add(n.trim());
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, props.getFanout().getBatchParallelism()));
+        Map<String, Future<Integer>> pending = new LinkedHashMap<>();
         try {
-            return new BigDecimal(cleaned);
-        } catch (NumberFormatException e) {
-            return null;
+            for (String name : unique) {
+                permits.acquire();
+                try {
+                    pending.put(name, fanout.submit(() -> {
+                        try {
+                            return findKcalPer100g(name);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+
+            Map<String, Integer> out = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<Integer>> e : pending.entrySet()) {
+                try {
+                    Integer kcal = e.getValue().get();
+                    if (kcal != null) out.put(e.getKey(), kcal);
+                } catch (ExecutionException ignore) {
+                    // 단건 조회와 동일하게 실패 = 못 찾음
+                }
+            }
+            return out;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.values().forEach(f -> f.cancel(true));
+            throw new IllegalStateException("kcal batch interrupted", e);
         }
     }
 
+    private static NutriFanout.Step kcalStep(String api, String name) {
+        return new NutriFanout.Step(api, Map.of(
+                "foodNm", name, "numOfRows","1", "pageNo","1", "type","json"
+        ));
+    }
+
     //응답을 항상배열로 정규화하는 헬퍼 추가
     private ArrayNode asArray(JsonNode raw) {
         if (raw == null) return null;
@@ -181,35 +160,6 @@ public class NutriService {
         if (raw.isObject()) arr.add(raw);
         return arr;
     }
-
-    private static String firstNonBlank(String... vals) {
-        if (vals == null) return null;
-        for (String v : vals) {
-            if (v != null && !v.isBlank()) return v;
-        }
-        return null;
-    }
-
-    /**
-     * "100g", "1회(30g)", "1포(45 g)" 같은 문자열에서 'g' 앞 숫자를 BigDecimal로 추출
-     */
-    private static BigDecimal parseServingToGrams(String s) {
-        if (s == null || s.isBlank()) return null;
-        // 괄호 안/밖 모두 탐색: 마지막 'g' 앞 숫자 뽑기
-        // 예) "1회(30g)" → 30, "100g" → 100, "1포(45 g)" → 45
-        var m = java.util.regex.Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*g", java.util.regex.Pattern.CASE_INSENSITIVE)
-                .matcher(s);
-        BigDecimal last = null;
-        while (m.find()) {
-            try {
-                last = new BigDecimal(m.group(1));
-            } catch (NumberFormatException ignore) {
-            }
-        }
-        return last;
-    }
-
-
 }
 
 //    // 0924 추가, 오픈 API 열결 테스트
@@ -1,5 +1,6 @@
 package com.healthsync.project.openai.config;
 
+import com.healthsync.project.config.PooledHttpClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -7,8 +8,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 @Configuration
 public class OpenAiConfig {
 
@@ -17,15 +16,13 @@ public class OpenAiConfig {
 
     /**
      * RestTemplate Bean 등록
+     * - 커넥션 풀/타임아웃은 http-client.pools.openai (연결 30초, 응답 30초)
      */
     @Primary
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, PooledHttpClientFactory httpClients) {
         return restTemplateBuilder
-
-                .setConnectTimeout(Duration.ofSeconds(30)) // 서버와 연결을 맺는 시간: 10초
-                .setReadTimeout(Duration.ofSeconds(30))    // 연결 후 응답을 기다리는 시간: 60초
-
+                .requestFactory(() -> httpClients.create("openai"))
 
                 .additionalInterceptors(((request, body, execution) -> {
                     // step 1. Authorization 헤더 추가 (Bearer + API KEY)
@@ -3,6 +3,7 @@ package com.healthsync.project.plan.repository;
 import com.healthsync.project.plan.domain.FoodSelection;
 import com.healthsync.project.plan.domain.MacroCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +12,28 @@ public interface FoodSelectionRepository extends JpaRepository<FoodSelection, Lo
 
     Optional<FoodSelection> findByGoalIdAndCategory(Long goalId, MacroCategory category);
     List<FoodSelection> findAllByGoalIdOrderByCategoryAsc(Long goalId);
+
+    // 식품(Nutri 식별자)별 선택 횟수 → 카탈로그 검색 인기도
+    @Query("""
+      select f.externalId as code, count(f) as cnt
+      from FoodSelection f
+      where f.externalId is not null
+      group by f.externalId
+    """)
+    List<Object[]> countByExternalId();
+
+    // 사용자가 저장한 라벨 이력 (라벨별 최근 kcal / 선택 횟수) → 자동완성 후보
+    // 최근 = 라벨마다 updated_at 이 가장 늦은 행 (같으면 id 큰 쪽) 하나 → 라벨당 1행
+    // 테이블 한 번 읽고 라벨별로 정렬해 창 함수로 계산 (행마다 상관 서브쿼리를 돌리지 않음, MySQL 8)
+    @Query(nativeQuery = true, value = """
+      select x.label, x.kcal, x.cnt
+      from (
+        select f.label, f.kcal,
+               count(*) over (partition by f.label) as cnt,
+               row_number() over (partition by f.label order by f.updated_at desc, f.id desc) as rn
+        from food_selections f
+      ) x
+      where x.rn = 1
+    """)
+    List<Object[]> countByLabel();
 }
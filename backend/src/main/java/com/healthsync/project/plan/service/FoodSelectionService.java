@@ -1,5 +1,6 @@
 package com.healthsync.project.plan.service;
 
+import com.healthsync.project.nutri.service.NutriPopularity;
 import com.healthsync.project.plan.domain.FoodSelection;
 import com.healthsync.project.plan.dto.FoodSelectionDto;
 import com.healthsync.project.plan.dto.SaveFoodSelectionReq;
@@ -21,6 +22,7 @@ public class FoodSelectionService {
 
     private final FoodSelectionRepository repo;
     private final GoalRepository goals;
+    private final NutriPopularity popularity;
 
     @Transactional
     public FoodSelectionDto saveOrReplace(Long userId, SaveFoodSelectionReq req){
@@ -43,6 +45,7 @@ public class FoodSelectionService {
                         .source(req.source()).externalId(req.externalId())
                         .build())
         );
+        popularity.recordSelection(req.externalId(), req.label()); // 인기 식품 추적 (메모리만)
 
         return FoodSelectionDto.from(saved);
     }
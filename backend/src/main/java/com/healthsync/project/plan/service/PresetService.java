@@ -2,16 +2,31 @@ package com.healthsync.project.plan.service;
 
 import com.healthsync.project.plan.dto.MacroPresetsDto;
 import com.healthsync.project.plan.dto.MacroPresetsDto.Item;
+import com.healthsync.project.nutri.service.NutriQuota;
 import com.healthsync.project.nutri.service.NutriService; // ← 프로젝트에 있는 nutri 조회 서비스/클라이언트 사용
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PresetService {
-    private final NutriService nutri; // search(q) → kcalPer100g 반환(또는 영양소로 계산)
+    private final NutriService nutri; // 이름 목록 → 100g 기준 kcal 일괄 조회
+
+    // 기동 직후 미해결 항목 재시도: 10초 → 20초 → … 최대 10분 간격, 8회 (이후는 refresh-cron 에 맡김)
+    private static final Duration RETRY_MIN = Duration.ofSeconds(10);
+    private static final Duration RETRY_MAX = Duration.ofMinutes(10);
+    private static final int MAX_RETRIES = 8;
 
     // 아이콘 key ↔ 식품명 매핑 (아이콘은 프론트에서 key 기준으로 이미 존재)
     private static final List<Item> CARB = List.of(
@@ -30,18 +45,78 @@ public class PresetService {
             new Item("almond", "아몬드", "almond", null)
     );
 
+    // 계산이 끝난 프리셋 (조회는 이 참조만 읽음 → data.go.kr 왕복 없음)
+    private volatile MacroPresetsDto snapshot = new MacroPresetsDto(
+            enrich(CARB, Map.of(), CARB), enrich(PROTEIN, Map.of(), PROTEIN), enrich(FAT, Map.of(), FAT));
+
     public MacroPresetsDto getPresets() {
-        return new MacroPresetsDto(
-                enrich(CARB),
-                enrich(PROTEIN),
-                enrich(FAT)
-        );
+        return snapshot;
+    }
+
+    /**
+     * 기동 직후 백그라운드로 채움 (기동을 막지 않음).
+     * 카탈로그 적재 전이거나 BACKGROUND 예산이 밀려 못 찾은 항목이 있으면 간격을 늘려 가며 다시 시도
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread t = new Thread(() -> {
+            Duration delay = RETRY_MIN;
+            for (int attempt = 1; !refreshAll() && attempt <= MAX_RETRIES; attempt++) {
+                log.info("[plan] presets 미해결 항목 있음 → {}초 뒤 재시도 ({}/{})", delay.toSeconds(), attempt, MAX_RETRIES);
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                delay = delay.multipliedBy(2).compareTo(RETRY_MAX) > 0 ? RETRY_MAX : delay.multipliedBy(2);
+            }
+        }, "plan-presets-warmup");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /** 카탈로그 동기화(03:30) 이후 재계산 */
+    @Scheduled(cron = "${plan.presets.refresh-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void refresh() {
+        refreshAll();
+    }
+
+    /** 모든 항목이 kcal 을 가지면 true */
+    private boolean refreshAll() {
+        boolean[] resolved = {false};
+        NutriQuota.runInBackground(() -> resolved[0] = recompute()); // data.go.kr 예산은 사용자 검색 뒤 순위
+        return resolved[0];
+    }
+
+    private boolean recompute() {
+        try {
+            List<String> names = Stream.of(CARB, PROTEIN, FAT).flatMap(List::stream).map(Item::name).toList();
+            Map<String, Integer> kcal = nutri.findKcalPer100g(names); // 중복 제거 + 병렬 + 캐시 재사용
+
+            MacroPresetsDto prev = snapshot;
+            snapshot = new MacroPresetsDto(
+                    enrich(CARB, kcal, prev.carb()),
+                    enrich(PROTEIN, kcal, prev.protein()),
+                    enrich(FAT, kcal, prev.fat())
+            );
+            log.info("[plan] presets refreshed: {}/{} resolved", kcal.size(), names.size());
+        } catch (Exception e) {
+            log.warn("[plan] presets refresh 실패 (이전 값 유지): {}", e.toString());
+        }
+        MacroPresetsDto cur = snapshot;
+        return Stream.of(cur.carb(), cur.protein(), cur.fat()).flatMap(List::stream)
+                .allMatch(it -> it.kclaPer100g() != null && it.kclaPer100g() > 0);
     }
 
-    private List<Item> enrich(List<Item> items) {
-        return items.stream().map(i -> {
-            Integer kcal = nutri.findKcalPer100g(i.name()); // ← nutri 쪽에서 100g 기준 kcal 리턴
-            return new Item(i.key(), i.name(), i.icon(), kcal != null ? kcal : 0);
-        }).toList();
+    /** 이번에 못 찾은 항목은 직전 값을 유지 (그것도 없으면 0) */
+    private static List<Item> enrich(List<Item> items, Map<String, Integer> kcal, List<Item> prev) {
+        List<Item> out = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            Integer k = kcal.get(it.name());
+            if (k == null) k = prev.get(i).kclaPer100g();
+            out.add(new Item(it.key(), it.name(), it.icon(), k != null ? k : 0));
+        }
+        return List.copyOf(out);
     }
 }
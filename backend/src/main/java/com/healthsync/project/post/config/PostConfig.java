@@ -0,0 +1,9 @@
+package com.healthsync.project.post.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PostProps.class)
+public class PostConfig {
+}
@@ -0,0 +1,71 @@
+package com.healthsync.project.post.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 게시판 설정.
+ * 예) posts.views.flush-interval=5s
+ */
+@Data
+@ConfigurationProperties(prefix = "posts")
+public class PostProps {
+
+    private Views views = new Views();
+    private Likes likes = new Likes();
+    private State state = new State();
+    private Trending trending = new Trending();
+    private Tags tags = new Tags();
+
+    /** 조회수 write-behind */
+    @Data
+    public static class Views {
+        private Duration flushInterval = Duration.ofSeconds(5);   // 누적분 → post.views_count 반영 주기
+        private Duration dedupeWindow = Duration.ofMinutes(30);   // 같은 사람이 같은 글을 이 안에 다시 보면 1회로 (0 이면 끔)
+        private int dedupeMaxEntries = 100_000;                   // 넘으면 새 조회자는 중복 확인 없이 집계
+    }
+
+    /** 좋아요 수 write-behind + count(*) 대사 */
+    @Data
+    public static class Likes {
+        private Duration flushInterval = Duration.ofSeconds(2);
+        private Duration reconcileInterval = Duration.ofMinutes(10);
+        private int reconcileBatch = 500;                         // 대사 1회에 IN 으로 묶는 글 수
+    }
+
+    /** 카운터 증감분 + 사용자별 좋아요/북마크 집합 저장소 (PostStateStore) */
+    @Data
+    public static class State {
+        private String store = "memory";                          // memory | redis
+        private Duration viewerTtl = Duration.ofMinutes(30);      // 사용자 집합을 MySQL 에서 다시 적재하는 주기
+        private int maxViewers = 10_000;                          // memory: 집합을 들고 있는 최대 사용자 수
+    }
+
+    /** 인기 글 (시간 감쇠 점수, PostTrending) */
+    @Data
+    public static class Trending {
+        private boolean enabled = true;
+        private Duration halfLife = Duration.ofHours(12);         // 이만큼 지나면 같은 사건의 가치가 절반
+        private double viewWeight = 1;
+        private double likeWeight = 5;
+        private double bookmarkWeight = 8;
+        private double commentWeight = 4;
+        private Duration snapshotInterval = Duration.ofSeconds(30); // 상위 목록 다시 뽑는 주기
+        private int snapshotSize = 200;                           // 스냅샷에 담는 글 수 (조회 size 상한 50 + 비공개/삭제 여유)
+        private int maxTracked = 20_000;                          // 점수를 들고 있는 최대 글 수 (넘으면 하위부터 제거)
+        private double minScore = 0.05;                           // 지금 가치로 이보다 작으면 제거
+        private Duration rebaseAfter = Duration.ofDays(7);        // 기준 시각 이동 주기 (지수 overflow 방지)
+        private Duration seedWindow = Duration.ofDays(3);         // 기동 시 점수를 채우는 최근 글 범위
+    }
+
+    /** 인기 태그 (tag_stats, TagLeaderboard) + 태그 이름 해석 (TagResolver) */
+    @Data
+    public static class Tags {
+        private Duration flushInterval = Duration.ofSeconds(10);  // 증감분 → tag_stats 반영 + 상위 목록 갱신 주기
+        private Duration rebuildInterval = Duration.ofHours(6);   // 원본 집계로 tag_stats 다시 맞추는 주기
+        private int snapshotSize = 100;                           // 상위 목록 크기 (/posts/tags/popular limit 상한)
+        private int resolverCacheSize = 10_000;                   // 태그 이름 → id 캐시 최대 개수 (LRU)
+    }
+}
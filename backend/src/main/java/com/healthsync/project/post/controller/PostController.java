@@ -3,10 +3,12 @@ package com.healthsync.project.post.controller;
 import com.healthsync.project.account.user.repository.UserRepository;
 import com.healthsync.project.post.domain.PostBookmark;
 import com.healthsync.project.post.dto.postdto.PostCreateRequest;
+import com.healthsync.project.post.dto.postdto.PostFeedResponse;
 import com.healthsync.project.post.dto.postdto.PostResponse;
 import com.healthsync.project.post.dto.postdto.PostUpdateRequest;
 import com.healthsync.project.post.service.BookmarkService;
 import com.healthsync.project.post.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,6 +23,8 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/posts")
@@ -42,13 +46,14 @@ public class PostController {
     public ResponseEntity<PostResponse> getPost(
             Authentication auth, // ✅ 1. 이 부분을 추가해야 합니다.
             @PathVariable Long postId,
-            @RequestParam(name = "increaseView", defaultValue = "false") boolean increaseView
+            @RequestParam(name = "increaseView", defaultValue = "false") boolean increaseView,
+            HttpServletRequest request
     ) {
         // ✅ 2. 이 부분을 추가해야 합니다.
         Long userId = (auth != null) ? getUserIdFromAuth(auth) : null;
 
         // ✅ 3. 에러가 나는 라인을 아래와 같이 수정합니다. (세 번째 파라미터로 userId 전달)
-        return ResponseEntity.ok(postService.getPost(postId, increaseView, userId));
+        return ResponseEntity.ok(postService.getPost(postId, increaseView, userId, viewerKey(userId, request)));
     }
 
 
@@ -57,6 +62,27 @@ public class PostController {
         return ResponseEntity.ok(postService.getPublicPosts(pageable));
     }
 
+    // 공개 피드 (커서 기반 무한 스크롤). 첫 요청은 cursor 없이, 이후 응답의 nextCursor 를 그대로 전달
+    @GetMapping("/feed")
+    public ResponseEntity<PostFeedResponse> getPublicFeed(
+            Authentication auth,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        Long userId = (auth != null) ? getUserIdFromAuth(auth) : null;
+        return ResponseEntity.ok(postService.getPublicFeed(cursor, size, userId));
+    }
+
+    // 인기 글 (조회/좋아요/북마크/댓글 + 시간 감쇠 점수 순)
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostResponse>> getTrending(
+            Authentication auth,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        Long userId = (auth != null) ? getUserIdFromAuth(auth) : null;
+        return ResponseEntity.ok(postService.getTrending(size, userId));
+    }
+
     // 조회수 만 확인하고 싶을때
     @GetMapping("/{postId}/views/count")
     public ResponseEntity<Integer> getViewsCount(@PathVariable Long postId) {
@@ -67,8 +93,14 @@ public class PostController {
     // 조회수 +1
     @PostMapping("/{postId}/views/increase")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void increaseView(@PathVariable Long postId) {
-        postService.increasePostView(postId);
+    public void increaseView(@PathVariable Long postId, Authentication auth, HttpServletRequest request) {
+        Long userId = (auth != null) ? getUserIdFromAuth(auth) : null;
+        postService.increasePostView(postId, viewerKey(userId, request));
+    }
+
+    // 조회수 중복 집계 판단 기준: 로그인 사용자는 id, 비로그인은 클라이언트 IP (forward-headers-strategy 로 프록시 뒤 원 IP)
+    private static String viewerKey(Long userId, HttpServletRequest request) {
+        return userId != null ? "u:" + userId : "a:" + request.getRemoteAddr();
     }
 
     // 좋아요 수만 확인하고 싶을 때
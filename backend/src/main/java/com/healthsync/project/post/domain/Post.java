@@ -17,9 +17,13 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        // 공개 피드 keyset 페이지네이션: where is_delete/visibility + order by created_at desc, post_id desc
+        @Index(name = "idx_post_feed", columnList = "is_delete, visibility, created_at, post_id")})
 public class Post {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @Column(name = "post_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,15 +52,20 @@ public class Post {
     @Column(name = "visibility", nullable = false, length = 20)
     private Visibility visibility;
 
-    @Column(name = "likes_count", nullable = false)
+    // 카운터 컬럼은 SQL 로만 증감 (PostLikeCounter/PostViewCounter) → 엔티티 UPDATE 가 옛 값으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "likes_count", nullable = false, updatable = false)
     private int likesCount;
 
     @Column(name = "is_delete", nullable = false)
     private boolean deleted;
 
-    @Column(name = "views_count", nullable = false)
+    @Column(name = "views_count", nullable = false, updatable = false)
     private int viewsCount;
 
+    // 목록 화면용 본문 앞부분 (contentTxt 저장 시 함께 갱신, 목록 쿼리는 @Lob 대신 이 컬럼만 읽음)
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
     @Column(name = "content_json", columnDefinition = "json")
     private String contentJson; // 옵션
 
@@ -73,7 +82,8 @@ public class Post {
     private Instant deletedAt;
 
     @Builder.Default
-    @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    // 태그 행은 TagResolver 가 미리 만들어 둠 → cascade 없음 (글 하드 삭제 때 다른 글의 태그까지 지우지 않도록)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "post_tag",
             joinColumns = @JoinColumn(name = "post_id"),
@@ -101,6 +111,7 @@ public class Post {
                 .user(author)
                 .title(title)
                 .contentTxt(contentTxt)
+                .excerpt(excerptOf(contentTxt))
                 .contentJson(contentJson)
                 .blockComment(blockComment != null ? blockComment : false)
                 .visibility(visibility != null ? visibility : Visibility.PUBLIC)
@@ -126,6 +137,7 @@ public class Post {
     ) {
         this.title = title;
         this.contentTxt = contentTxt;
+        this.excerpt = excerptOf(contentTxt);
         this.contentJson = contentJson;
         if (blockComment != null) this.blockComment = blockComment;
         if (visibility != null)   this.visibility = visibility;
@@ -134,6 +146,16 @@ public class Post {
         replaceTags(tags);
     }
 
+    /** 공백을 한 칸으로 줄이고 EXCERPT_LENGTH 자에서 자름 (서로게이트 쌍은 자르지 않음) */
+    public static String excerptOf(String contentTxt) {
+        if (contentTxt == null) return null;
+        String s = contentTxt.strip().replaceAll("\\s+", " ");
+        if (s.length() <= EXCERPT_LENGTH) return s;
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(s.charAt(end - 1))) end--;
+        return s.substring(0, end);
+    }
+
     public void replaceTags(List<Tag> newTags) {
         this.tag.clear();
         if (newTags != null) this.tag.addAll(newTags);
@@ -143,8 +165,6 @@ public class Post {
         this.deleted = true;
         this.deletedAt = Instant.now(); }
 
-    public void increaseViews() { this.viewsCount++; }
-
     public void setAuthor(User author) { this.user = author; }
 
     @PrePersist
@@ -162,15 +182,4 @@ public class Post {
     void onUpdate() {
         this.updatedAt = Instant.now();
     }
-
-    public void increaseLikes() {
-        this.likesCount++;
-    }
-
-    public void decreaseLikes() {
-        // 좋아요가 0개 미만으로 내려가지 않도록 안전장치를 추가합니다.
-        if (this.likesCount > 0) {
-            this.likesCount--;
-        }
-    }
 }
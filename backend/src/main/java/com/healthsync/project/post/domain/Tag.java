@@ -9,15 +9,18 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "tag", indexes = {
-        @Index(name = "idx_tag_name", columnList = "tag_name")})
+        // 같은 이름 태그는 한 행만 (TagResolver 의 INSERT ... ON DUPLICATE KEY). 기존 DB 는 TagNameIndexMigration 이 전환
+        @Index(name = "idx_tag_name", columnList = "tag_name", unique = true)})
 public class Tag {
 
+    public static final int NAME_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "tag_id")
     private long id;
 
-    @Column(name = "tag_name", length = 100, nullable = false)
+    @Column(name = "tag_name", length = NAME_LENGTH, nullable = false)
     private String tagName;
 
     public Tag(String tagName) {
@@ -0,0 +1,28 @@
+package com.healthsync.project.post.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 태그별 공개 글 수 (인기 태그 집계 결과).
+ * - TagLeaderboard 가 글 작성/수정/삭제 때 모은 증감분을 주기적으로 JDBC upsert 로 반영
+ * - rebuild-interval 마다 post ⨝ post_tag ⨝ tag 집계로 다시 맞춤
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tag_stats")
+public class TagStat {
+
+    @Id
+    @Column(name = "tag_name", length = 100)
+    private String tagName;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
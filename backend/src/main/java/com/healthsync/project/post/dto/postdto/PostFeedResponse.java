@@ -0,0 +1,24 @@
+package com.healthsync.project.post.dto.postdto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서 기반 피드 한 페이지.
+ * - nextCursor: 다음 페이지 요청 시 그대로 넘기는 불투명 토큰 (마지막 페이지면 null)
+ * - 전체 건수(count)는 제공하지 않음
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostFeedResponse {
+
+    @Builder.Default
+    private List<PostResponse> items = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+}
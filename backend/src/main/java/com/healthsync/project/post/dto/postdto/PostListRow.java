@@ -0,0 +1,33 @@
+package com.healthsync.project.post.dto.postdto;
+
+import com.healthsync.project.post.constant.Visibility;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 목록 쿼리 projection (JPQL select new).
+ * content_txt(@Lob) / content_json 은 읽지 않고 excerpt 만 → 본문은 GET /posts/{id} 에서.
+ */
+public record PostListRow(
+        long id,
+        Long userId,
+        String title,
+        String excerpt,
+        Visibility visibility,
+        boolean blockComment,
+        int likesCount,
+        int viewsCount,
+        boolean deleted,
+        Long goalId,
+        LocalDate postDate,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    /** JPQL 에서 그대로 붙여 쓰는 select 절 (별칭 p = Post) */
+    public static final String SELECT = """
+            select new com.healthsync.project.post.dto.postdto.PostListRow(
+                p.id, p.user.id, p.title, p.excerpt, p.visibility, p.blockComment,
+                p.likesCount, p.viewsCount, p.deleted, p.goalId, p.postDate, p.createdAt, p.updatedAt)
+            """;
+}
@@ -24,6 +24,7 @@ public class PostResponse {
     private String title;
     private String contentTxt;
     private String contentJson;
+    private String excerpt; // 목록 응답은 contentTxt/contentJson 없이 이것만
     private Visibility visibility;
     private boolean blockComment;
     private int likesCount;
@@ -5,8 +5,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface PostBookmarkRepository extends JpaRepository<PostBookmark, Long> {
 
@@ -19,6 +22,11 @@ public interface PostBookmarkRepository extends JpaRepository<PostBookmark, Long
 
     Optional<PostBookmark> findByUser_IdAndPost_Id(Long userId, Long postId);
 
+    // 조회자 상태 적재: 내가 북마크한 글 id 전부
+    @Query("select b.post.id from PostBookmark b where b.user.id = :userId")
+    Set<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+
 
 
 }
@@ -1,21 +1,35 @@
 package com.healthsync.project.post.repository;
 
 import com.healthsync.project.account.user.domain.User;
-import com.healthsync.project.post.domain.Post;
+import com.healthsync.project.post.dto.postdto.PostListRow;
 import com.healthsync.project.post.domain.PostLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     boolean existsByUser_IdAndPost_Id(Long userId, Long postId);
 
+    // 좋아요: uk_post_like_post_user 에 맡김 (exists 확인 없이). 새로 들어갔으면 1, 이미 있으면 0
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (post_id, user_id, created_at) VALUES (:postId, :userId, :now)",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId, @Param("now") Instant now);
+
+    // 좋아요 취소: 지웠으면 1, 없었으면 0
+    @Modifying
+    @Query("delete from PostLike pl where pl.user.id = :userId and pl.post.id = :postId")
+    int deleteByUserAndPost(@Param("userId") Long userId, @Param("postId") Long postId);
+
     long countByPost_Id(Long postId);
 
     @EntityGraph(attributePaths = {"user"})
@@ -26,6 +40,16 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     Optional<PostLike> findByUser_IdAndPost_Id(Long userId, Long postId);
 
-    @Query("SELECT pl.post FROM PostLike pl WHERE pl.user.id = :userId")
-    Page<Post> findLikedPostsByUserId(@Param("userId") Long userId, Pageable pageable);
+    // 목록 화면용 projection (본문 제외)
+    @Query(value = PostListRow.SELECT + """
+      from PostLike pl
+      join pl.post p
+      where pl.user.id = :userId
+      """,
+      countQuery = "select count(pl) from PostLike pl where pl.user.id = :userId")
+    Page<PostListRow> findLikedListByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 조회자 상태 적재: 내가 좋아요한 글 id 전부
+    @Query("select pl.post.id from PostLike pl where pl.user.id = :userId")
+    Set<Long> findPostIdsByUserId(@Param("userId") Long userId);
 }
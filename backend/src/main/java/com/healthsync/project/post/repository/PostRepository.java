@@ -2,48 +2,98 @@ package com.healthsync.project.post.repository;
 
 import com.healthsync.project.post.constant.Visibility;
 import com.healthsync.project.post.domain.Post;
+import com.healthsync.project.post.dto.postdto.PostListRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findByDeletedFalseAndVisibility(Visibility visibility, Pageable pageable);
-    Page<Post> findByDeletedFalseAndUser_Id(Long userId, Pageable pageable);
+    /* ---------- 목록 projection (본문 @Lob 제외, excerpt 만) ---------- */
 
+    @Query(value = PostListRow.SELECT + """
+      from Post p
+      where p.deleted = false
+        and p.visibility = :visibility
+      """,
+      countQuery = "select count(p) from Post p where p.deleted = false and p.visibility = :visibility")
+    Page<PostListRow> findListByVisibility(@Param("visibility") Visibility visibility, Pageable pageable);
 
-    @Modifying
-    @Query("update Post p set p.viewsCount = p.viewsCount + 1 where p.id = :postId")
-    void increaseViews(@Param("postId") Long postId);
-
-    // ✅ 일정 기간 지난 Soft Deleted 게시글 조회 (하드 삭제 대상)
-    List<Post> findByDeletedTrueAndDeletedAtBefore(Instant threshold);
+    @Query(value = PostListRow.SELECT + """
+      from Post p
+      where p.deleted = false
+        and p.user.id = :userId
+      """,
+      countQuery = "select count(p) from Post p where p.deleted = false and p.user.id = :userId")
+    Page<PostListRow> findListByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    // 공개 글 + 단일 태그 필터
-    @Query("""
-      select distinct p
+    // 태그 필터는 join 대신 서브쿼리 → distinct 없이 글 1건당 1행
+    @Query(value = PostListRow.SELECT + """
       from Post p
-      join p.tag t
       where p.deleted = false
         and p.visibility = com.healthsync.project.post.constant.Visibility.PUBLIC
-        and t.tagName = :tagName
+        and p.id in (select tp.id from Post tp join tp.tag t where t.tagName = :tagName)
+      """,
+      countQuery = """
+      select count(p)
+      from Post p
+      where p.deleted = false
+        and p.visibility = com.healthsync.project.post.constant.Visibility.PUBLIC
+        and p.id in (select tp.id from Post tp join tp.tag t where t.tagName = :tagName)
       """)
-    Page<Post> findPublicByTag(@Param("tagName") String tagName, Pageable pageable);
+    Page<PostListRow> findPublicListByTag(@Param("tagName") String tagName, Pageable pageable);
 
-    // (선택) 내 글 + 태그 필터
-    @Query("""
-      select distinct p
+    @Query(value = PostListRow.SELECT + """
       from Post p
-      join p.tag t
       where p.deleted = false
         and p.user.id = :userId
-        and t.tagName = :tagName
+        and p.id in (select tp.id from Post tp join tp.tag t where t.tagName = :tagName)
+      """,
+      countQuery = """
+      select count(p)
+      from Post p
+      where p.deleted = false
+        and p.user.id = :userId
+        and p.id in (select tp.id from Post tp join tp.tag t where t.tagName = :tagName)
       """)
-    Page<Post> findMyPostsByTag(@Param("userId") Long userId, @Param("tagName") String tagName, Pageable pageable);
+    Page<PostListRow> findMyListByTag(@Param("userId") Long userId, @Param("tagName") String tagName, Pageable pageable);
+
+    // 공개 피드 (keyset): 첫 페이지 / 커서 이후. count 쿼리 없이 limit+1 건만 읽음
+    @Query(PostListRow.SELECT + """
+      from Post p
+      where p.deleted = false
+        and p.visibility = :visibility
+      order by p.createdAt desc, p.id desc
+      """)
+    List<PostListRow> findFeedFirst(@Param("visibility") Visibility visibility, Pageable limit);
+
+    @Query(PostListRow.SELECT + """
+      from Post p
+      where p.deleted = false
+        and p.visibility = :visibility
+        and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+      order by p.createdAt desc, p.id desc
+      """)
+    List<PostListRow> findFeedAfter(@Param("visibility") Visibility visibility,
+                             @Param("createdAt") Instant createdAt,
+                             @Param("id") long id,
+                             Pageable limit);
+
+    // 인기 글: 스냅샷 id 중 공개·미삭제만 (순서는 호출측에서 맞춤)
+    @Query(PostListRow.SELECT + """
+      from Post p
+      where p.id in :ids
+        and p.deleted = false
+        and p.visibility = com.healthsync.project.post.constant.Visibility.PUBLIC
+      """)
+    List<PostListRow> findPublicListByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ✅ 일정 기간 지난 Soft Deleted 게시글 조회 (하드 삭제 대상)
+    List<Post> findByDeletedTrueAndDeletedAtBefore(Instant threshold);
 
 }
@@ -1,39 +1,33 @@
 package com.healthsync.project.post.repository;
 
 import com.healthsync.project.post.domain.Tag;
-import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByTagName(String tagName);
 
+    // TagResolver: 캐시에 있는 id + 캐시에 없는 이름을 한 번에
+    List<Tag> findByIdInOrTagNameIn(Collection<Long> ids, Collection<String> tagNames);
+
+    // insert 직후 재조회: 잠금 읽기(FOR SHARE)라 트랜잭션 스냅샷이 아닌 최신 커밋 행을 읽음
+    // (REPEATABLE READ 에서 다른 트랜잭션이 먼저 만든 태그 → ON DUPLICATE KEY no-op 인 경우)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t from Tag t where t.tagName in :tagNames")
+    List<Tag> findForShareByTagNameIn(@Param("tagNames") Collection<String> tagNames);
+
     // 자동완성 (사이즈 제한은 Service/Controller에서 pageable로 제어)
     @Query("select t from Tag t where lower(t.tagName) like lower(concat(:prefix, '%'))")
     List<Tag> findByPrefix(@Param("prefix") String prefix, Pageable pageable);
 
-    // 인기 태그 (네이티브: 조인테이블 집계)
-    @Query("""
-      select t.tagName as tag, count(distinct p.id) as cnt
-      from Post p
-      join p.tag t
-      where p.deleted = false
-        and p.visibility = com.healthsync.project.post.constant.Visibility.PUBLIC
-      group by t.tagName
-      order by count(distinct p.id) desc, t.tagName asc
-    """)
-    List<Object[]> findPopularTags(Pageable pageable);
-
-    default List<Object[]> findPopularTags(int limit) {
-        int lim = Math.max(1, Math.min(limit, 100));
-        return findPopularTags(PageRequest.of(0, lim));
-    }
-
     @Query("""
       select distinct t.tagName
       from Post p
@@ -54,4 +48,13 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
       order by cnt desc, t.tagName asc
     """)
     List<Object[]> findMyTagsWithCounts(@Param("userId") Long userId);
+
+    // 게시글 묶음의 태그: {postId, tagName}
+    @Query("""
+      select p.id, t.tagName
+      from Post p
+      join p.tag t
+      where p.id in :postIds
+    """)
+    List<Object[]> findTagNamesByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
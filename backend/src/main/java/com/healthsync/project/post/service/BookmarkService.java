@@ -26,6 +26,8 @@ public class BookmarkService {
     private final PostBookmarkRepository bookmarkRepo;
     private final PostRepository postRepo;
     private final UserRepository userRepo; // 실제 경로에 맞게
+    private final PostStateStore state;
+    private final PostTrending trending;
 
     public void addBookmark(Long userId, Long postId) {
         requireLogin(userId);
@@ -42,13 +44,23 @@ public class BookmarkService {
                 .createdAt(Instant.now())
                 .build();
         bookmarkRepo.save(bm);
+        AfterCommit.run(() -> {
+            state.setBookmarked(userId, postId, true);
+            trending.recordBookmark(postId, +1);
+        });
     }
 
     public void removeBookmark(Long userId, Long postId) {
         requireLogin(userId);
         bookmarkRepo.findByUser_IdAndPost_Id(userId, postId) // 없으면 아래 메서드 하나 더 추가해도 됨
                 .ifPresentOrElse(
-                        bookmarkRepo::delete,
+                        bm -> {
+                            bookmarkRepo.delete(bm);
+                            AfterCommit.run(() -> {
+                                state.setBookmarked(userId, postId, false);
+                                trending.recordBookmark(postId, -1);
+                            });
+                        },
                         () -> { throw new ResponseStatusException(HttpStatus.NOT_FOUND, "북마크가 없습니다."); }
                 );
     }
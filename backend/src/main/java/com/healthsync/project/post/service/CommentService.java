@@ -28,6 +28,7 @@ public class CommentService {
     private final PostRepository postRepository;
     private final PostCommentRepository postCommentRepository;
     private final UserRepository userRepository;
+    private final PostTrending trending;
 
     // ✅ (추가) 비공개/차단 접근 검사
     private void checkReadable(User viewer, Post post) {
@@ -66,6 +67,7 @@ public class CommentService {
 
         PostComment c = PostComment.create(author, post, req.getContent());
         PostComment saved = postCommentRepository.save(c);
+        trending.recordComment(postId);
         return toResponse(saved);
     }
 
@@ -0,0 +1,59 @@
+package com.healthsync.project.post.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 글 id → 미반영 증감분 (MemoryPostStateStore 의 카운터).
+ * - 쓰기: id 별 LongAdder 에 add (셀 단위 분산이라 같은 글에 몰려도 경합 없음)
+ * - drain: 각 adder 를 sumThenReset (셀마다 getAndSet 이라 동시 add 가 유실되지 않음)
+ *   0 이 된 adder 는 map 에서 제거 → 제거 직후 끼어든 add 는 add() 가 알아채서 새 adder 로 옮김
+ */
+public final class CounterBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void add(long id, long delta) {
+        if (delta == 0) return;
+        LongAdder a = deltas.computeIfAbsent(id, k -> new LongAdder());
+        a.add(delta);
+        if (deltas.get(id) != a) { // drain 이 방금 치운 adder 에 더했음 → 옮겨 담기
+            long moved = a.sumThenReset();
+            if (moved != 0) add(id, moved);
+        }
+    }
+
+    /** 아직 DB 에 반영되지 않은 값 (응답 보정용) */
+    public long pending(long id) {
+        LongAdder a = deltas.get(id);
+        return a == null ? 0 : a.sum();
+    }
+
+    /** 누적분을 꺼내고 0 으로. 결과는 id 오름차순 (배치 UPDATE 의 행 잠금 순서를 고정) */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> out = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> e : deltas.entrySet()) {
+            long v = e.getValue().sumThenReset();
+            if (v != 0) out.put(e.getKey(), v);
+            else deltas.remove(e.getKey(), e.getValue());
+        }
+        return out;
+    }
+
+    /** 반영 실패분 되돌리기 */
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    public long total() {
+        long sum = 0;
+        for (LongAdder a : deltas.values()) sum += a.sum();
+        return sum;
+    }
+}
@@ -0,0 +1,39 @@
+package com.healthsync.project.post.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 피드 커서 = 마지막으로 내려준 글의 (created_at, post_id).
+ * 클라이언트에는 base64url 토큰으로만 노출 (정렬 키 형식이 바뀌어도 API 는 그대로).
+ */
+public record FeedCursor(Instant createdAt, long id) {
+
+    private static final byte VERSION = 1;
+
+    public String encode() {
+        ByteBuffer buf = ByteBuffer.allocate(1 + 8 + 4 + 8)
+                .put(VERSION)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    /** 빈 값이면 null (= 첫 페이지). 형식이 틀리면 400 */
+    public static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buf.remaining() != 21 || buf.get() != VERSION) throw new IllegalArgumentException("bad cursor");
+            Instant at = Instant.ofEpochSecond(buf.getLong(), buf.getInt());
+            return new FeedCursor(at, buf.getLong());
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
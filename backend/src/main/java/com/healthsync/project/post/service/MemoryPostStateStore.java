@@ -0,0 +1,124 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import com.healthsync.project.post.repository.PostBookmarkRepository;
+import com.healthsync.project.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PostStateStore 기본 구현 (JVM 메모리, 인스턴스 1대 기준).
+ * - 카운터: 종류별 CounterBuffer
+ * - 조회자 집합: userId → (좋아요, 북마크) 글 id 집합. viewer-ttl 지나면 다시 적재, max-viewers 를 넘으면 만료된 것부터 정리
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "posts.state.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryPostStateStore implements PostStateStore {
+
+    private final PostProps props;
+    private final PostLikeRepository likeRepository;
+    private final PostBookmarkRepository bookmarkRepository;
+
+    private final Map<Counter, CounterBuffer> counters = new EnumMap<>(Map.of(
+            Counter.VIEWS, new CounterBuffer(),
+            Counter.LIKES, new CounterBuffer()));
+
+    private record Viewer(Set<Long> liked, Set<Long> bookmarked, long expiresAt) {}
+
+    private final Map<Long, Viewer> viewers = new ConcurrentHashMap<>();
+
+    /* ---------- 카운터 ---------- */
+
+    @Override
+    public void add(Counter c, long postId, long delta) {
+        counters.get(c).add(postId, delta);
+    }
+
+    @Override
+    public Map<Long, Long> pending(Counter c, Collection<Long> postIds) {
+        CounterBuffer b = counters.get(c);
+        Map<Long, Long> out = new HashMap<>();
+        for (Long id : postIds) {
+            long v = b.pending(id);
+            if (v != 0) out.put(id, v);
+        }
+        return out;
+    }
+
+    @Override
+    public Map<Long, Long> drain(Counter c) {
+        return counters.get(c).drain();
+    }
+
+    @Override
+    public void restore(Counter c, Map<Long, Long> drained) {
+        counters.get(c).restore(drained);
+    }
+
+    @Override
+    public long pendingPosts(Counter c) {
+        return counters.get(c).size();
+    }
+
+    /* ---------- 조회자 상태 ---------- */
+
+    @Override
+    public ViewerState viewerState(long userId, Collection<Long> postIds) {
+        Viewer v = viewer(userId);
+        Set<Long> liked = new HashSet<>(), bookmarked = new HashSet<>();
+        for (Long id : postIds) {
+            if (v.liked().contains(id)) liked.add(id);
+            if (v.bookmarked().contains(id)) bookmarked.add(id);
+        }
+        return new ViewerState(liked, bookmarked);
+    }
+
+    @Override
+    public void setLiked(long userId, long postId, boolean liked) {
+        Viewer v = viewers.get(userId); // 아직 적재 전이면 다음 조회 때 MySQL 에서 읽음
+        if (v == null) return;
+        if (liked) v.liked().add(postId);
+        else v.liked().remove(postId);
+    }
+
+    @Override
+    public void setBookmarked(long userId, long postId, boolean bookmarked) {
+        Viewer v = viewers.get(userId);
+        if (v == null) return;
+        if (bookmarked) v.bookmarked().add(postId);
+        else v.bookmarked().remove(postId);
+    }
+
+    private Viewer viewer(long userId) {
+        long now = System.currentTimeMillis();
+        Viewer v = viewers.get(userId);
+        if (v != null && v.expiresAt() > now) return v;
+
+        if (viewers.size() >= props.getState().getMaxViewers()) evict(now);
+        Set<Long> liked = ConcurrentHashMap.newKeySet();
+        liked.addAll(likeRepository.findPostIdsByUserId(userId));
+        Set<Long> bookmarked = ConcurrentHashMap.newKeySet();
+        bookmarked.addAll(bookmarkRepository.findPostIdsByUserId(userId));
+        v = new Viewer(liked, bookmarked, now + props.getState().getViewerTtl().toMillis());
+        viewers.put(userId, v);
+        return v;
+    }
+
+    /** 만료된 항목 정리, 그래도 가득 차 있으면 만료가 가장 가까운 것부터 1/10 비움 */
+    private void evict(long now) {
+        viewers.values().removeIf(x -> x.expiresAt() <= now);
+        int max = props.getState().getMaxViewers();
+        if (viewers.size() < max) return;
+        viewers.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .limit(Math.max(1, max / 10))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(viewers::remove);
+    }
+}
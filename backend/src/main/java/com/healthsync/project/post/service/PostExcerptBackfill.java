@@ -0,0 +1,48 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.domain.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * post.excerpt 컬럼 추가 전 글 채우기 (기동 시 1회, 비어 있는 행만).
+ * JPA 로 엔티티를 고치면 @PreUpdate 가 updated_at 을 바꾸므로 JDBC 로 excerpt 만 갱신.
+ * BATCH 건씩 id 순으로 읽어 batch UPDATE → 다 채워지면 다음 기동부터는 select 1번으로 끝.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostExcerptBackfill {
+
+    private static final int BATCH = 500;
+
+    private final JdbcTemplate jdbc;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long lastId = 0, filled = 0;
+        while (true) {
+            List<Object[]> rows = jdbc.query(
+                    "SELECT post_id, content_txt FROM post WHERE excerpt IS NULL AND post_id > ? ORDER BY post_id LIMIT ?",
+                    (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)}, lastId, BATCH);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> args = new ArrayList<>(rows.size());
+            for (Object[] r : rows) {
+                args.add(new Object[]{Post.excerptOf((String) r[1]), r[0]});
+            }
+            jdbc.batchUpdate("UPDATE post SET excerpt = ? WHERE post_id = ?", args);
+            filled += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < BATCH) break;
+        }
+        if (filled > 0) log.info("[post] excerpt backfill: {} rows", filled);
+    }
+}
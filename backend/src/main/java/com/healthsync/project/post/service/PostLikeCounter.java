@@ -0,0 +1,130 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요 수 write-behind + 대사(reconcile).
+ * - 원본은 post_likes 행 (uk_post_like_post_user 로 중복 불가). 좋아요/취소가 실제로 행을 바꿨을 때만 ±1 을 PostStateStore 카운터에 누적
+ * - flush-interval 마다 likes_count = GREATEST(0, likes_count + ?) 한 번의 JDBC batch → post 행 잠금은 주기당 1회
+ * - reconcile-interval 마다 직전 주기에 바뀐 글만 count(*) 와 비교해 다르면 맞춤 (기동 시 전체 1회)
+ *   비교 값과 같을 때만 덮어쓰고(CAS), 그 사이 새로 누적된 글은 건너뜀 → 다음 주기에 다시 확인
+ * 응답의 likesCount 는 DB 값 + 저장소의 미반영분 (PostResponseAssembler).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCounter implements MeterBinder {
+
+    private static final String FLUSH_SQL = "UPDATE post SET likes_count = GREATEST(0, likes_count + ?) WHERE post_id = ?";
+    private static final String FIX_SQL = "UPDATE post SET likes_count = ? WHERE post_id = ? AND likes_count = ?";
+
+    private final PostProps props;
+    private final JdbcTemplate jdbc;
+    private final PostStateStore store;
+
+    /** 이번 대사 주기에 좋아요가 바뀐 글 */
+    private volatile Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private final LongAdder corrected = new LongAdder();
+
+    /** post_likes 에 행이 실제로 추가(+1)/삭제(-1)된 뒤 호출 */
+    public void record(long postId, int delta) {
+        store.add(PostStateStore.Counter.LIKES, postId, delta);
+        touched.add(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.likes.flush-interval:PT2S}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    synchronized void flush() {
+        try {
+            store.flushTo(PostStateStore.Counter.LIKES, jdbc, FLUSH_SQL);
+        } catch (RuntimeException e) {
+            log.warn("[post-likes] flush 실패, 다음 주기에 재시도 ({})", e.toString());
+        }
+    }
+
+    /* ---------- 대사 ---------- */
+
+    @Scheduled(fixedDelayString = "${posts.likes.reconcile-interval:PT10M}",
+            initialDelayString = "${posts.likes.reconcile-interval:PT10M}")
+    public void reconcileTouched() {
+        Set<Long> ids = touched;
+        touched = ConcurrentHashMap.newKeySet();
+        if (ids.isEmpty()) return;
+        List<Long> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        int batch = Math.max(1, props.getLikes().getReconcileBatch());
+        for (int i = 0; i < sorted.size(); i += batch) {
+            reconcile(sorted.subList(i, Math.min(sorted.size(), i + batch)));
+        }
+    }
+
+    /** 기동 시 전체 글 1회 (도입 전 lost update 로 어긋난 값 정리) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAll() {
+        int batch = Math.max(1, props.getLikes().getReconcileBatch());
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbc.queryForList(
+                    "SELECT post_id FROM post WHERE post_id > ? ORDER BY post_id LIMIT ?", Long.class, lastId, batch);
+            if (ids.isEmpty()) break;
+            reconcile(ids);
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < batch) break;
+        }
+        if (corrected.sum() > 0) log.info("[post-likes] 기동 대사: {}건 보정", corrected.sum());
+    }
+
+    /** ids 의 likes_count 를 post_likes count(*) 와 맞춤. flush 와 겹치지 않게 같은 모니터 */
+    synchronized void reconcile(List<Long> ids) {
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object[]> rows = jdbc.query(
+                "SELECT p.post_id, p.likes_count, (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id)"
+                        + " FROM post p WHERE p.post_id IN (" + in + ")",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getInt(2), rs.getInt(3)}, ids.toArray());
+
+        Map<Long, Long> pending = store.pending(PostStateStore.Counter.LIKES, ids);
+        List<Object[]> fixes = new ArrayList<>();
+        for (Object[] r : rows) {
+            long id = (Long) r[0];
+            int stored = (Integer) r[1], actual = (Integer) r[2];
+            if (stored == actual || pending.containsKey(id)) continue; // 아직 반영 안 된 좋아요가 있으면 다음 주기에
+            fixes.add(new Object[]{actual, id, stored});
+        }
+        if (fixes.isEmpty()) return;
+        int[] res = jdbc.batchUpdate(FIX_SQL, fixes);
+        for (int n : res) if (n > 0) corrected.increment();
+        log.debug("[post-likes] reconcile: checked={} fixed={}", rows.size(), fixes.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.likes.pending.posts", store, s -> s.pendingPosts(PostStateStore.Counter.LIKES))
+                .description("DB 미반영 좋아요 증감이 있는 글 수").register(registry);
+        FunctionCounter.builder("post.likes.corrected", corrected, LongAdder::sum)
+                .description("count(*) 대사로 보정한 글 수").register(registry);
+    }
+}
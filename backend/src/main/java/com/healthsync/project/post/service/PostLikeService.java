@@ -15,11 +15,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class PostLikeService {
 
     private final PostLikeRepository likeRepo;
+    private final PostStateStore state;
 
     @Transactional(readOnly = true)
     public long countLikes(Long postId) {
@@ -29,7 +32,7 @@ public class PostLikeService {
     @Transactional(readOnly = true)
     public boolean likedByMe(Long currentUserId, Long postId) {
         if (currentUserId == null) return false;
-        return likeRepo.existsByUser_IdAndPost_Id(currentUserId, postId);
+        return state.viewerState(currentUserId, List.of(postId)).liked().contains(postId);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,179 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.account.profile.repository.ProfileRepository;
+import com.healthsync.project.account.user.repository.UserRepository;
+import com.healthsync.project.post.domain.Post;
+import com.healthsync.project.post.dto.postdto.PostListRow;
+import com.healthsync.project.post.dto.postdto.PostResponse;
+import com.healthsync.project.post.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Post 묶음 → PostResponse 묶음.
+ * 글마다 작성자/프로필/태그/좋아요/북마크를 따로 조회하지 않고 페이지 단위로 IN 쿼리 한 번씩:
+ * 작성자 이름, 프로필 이미지, 태그 → 최대 3 쿼리 + 메모리 조립.
+ * (로그인 시) 좋아요/북마크 여부와 미반영 조회수/좋아요 증감은 PostStateStore 에서 페이지 단위로 한 번에.
+ * - assemble(Post): 상세/작성/수정 응답 (본문 포함)
+ * - assembleList(PostListRow): 목록 응답 (본문 대신 excerpt)
+ * 호출측 트랜잭션 안에서 사용 (Post.user 는 id 만 읽으므로 프록시 초기화 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class PostResponseAssembler {
+
+    private final UserRepository userRepository;
+    private final ProfileRepository profileRepository;
+    private final TagRepository tagRepository;
+    private final PostStateStore state;
+
+    private record Author(String nickname, String imageUrl, LocalDateTime imageUpdatedAt) {}
+
+    /** 한 페이지 분량의 부가 정보 */
+    private record Extras(Map<Long, Author> authors, Map<Long, List<String>> tags,
+                          Set<Long> liked, Set<Long> bookmarked,
+                          Map<Long, Long> pendingViews, Map<Long, Long> pendingLikes) {
+
+        PostResponse.PostResponseBuilder apply(PostResponse.PostResponseBuilder b, long postId, Long userId) {
+            Author a = userId == null ? null : authors.get(userId);
+            return b.id(postId)
+                    .userId(userId)
+                    .authorNickname(a != null ? a.nickname() : null)
+                    .authorProfileImageUrl(a != null ? a.imageUrl() : null)
+                    .authorProfileImageUpdatedAt(a != null ? a.imageUpdatedAt() : null)
+                    .tags(tags.getOrDefault(postId, List.of()))
+                    .likedByMe(liked.contains(postId))
+                    .bookmarkedByMe(bookmarked.contains(postId));
+        }
+
+        /** DB 값 + 아직 flush 안 된 증감 */
+        int views(long postId, int stored) {
+            return clamp(stored + pendingViews.getOrDefault(postId, 0L));
+        }
+
+        int likes(long postId, int stored) {
+            return clamp(stored + pendingLikes.getOrDefault(postId, 0L));
+        }
+
+        private static int clamp(long v) {
+            return (int) Math.max(0, Math.min(Integer.MAX_VALUE, v));
+        }
+    }
+
+    /* ---------- 상세 (엔티티) ---------- */
+
+    public PostResponse assemble(Post post, Long viewerId) {
+        return assemble(List.of(post), viewerId).get(0);
+    }
+
+    /** 입력 순서 그대로 */
+    public List<PostResponse> assemble(List<Post> posts, Long viewerId) {
+        if (posts.isEmpty()) return List.of();
+        List<Long> postIds = new ArrayList<>(posts.size());
+        Set<Long> userIds = new HashSet<>();
+        for (Post p : posts) {
+            postIds.add(p.getId());
+            Long uid = authorId(p);
+            if (uid != null) userIds.add(uid);
+        }
+        Extras x = load(postIds, userIds, viewerId);
+
+        List<PostResponse> out = new ArrayList<>(posts.size());
+        for (Post p : posts) {
+            out.add(x.apply(PostResponse.builder(), p.getId(), authorId(p))
+                    .visibility(p.getVisibility())
+                    .title(p.getTitle())
+                    .contentTxt(p.getContentTxt())
+                    .contentJson(p.getContentJson())
+                    .excerpt(p.getExcerpt())
+                    .blockComment(p.isBlockComment())
+                    .likesCount(x.likes(p.getId(), p.getLikesCount()))
+                    .viewsCount(x.views(p.getId(), p.getViewsCount()))
+                    .deleted(p.isDeleted())
+                    .goalId(p.getGoalId())
+                    .postDate(p.getPostDate())
+                    .createdAt(p.getCreatedAt())
+                    .updatedAt(p.getUpdatedAt())
+                    .build());
+        }
+        return out;
+    }
+
+    /* ---------- 목록 (projection) ---------- */
+
+    public Page<PostResponse> assembleList(Page<PostListRow> page, Long viewerId) {
+        return new PageImpl<>(assembleList(page.getContent(), viewerId), page.getPageable(), page.getTotalElements());
+    }
+
+    public List<PostResponse> assembleList(List<PostListRow> rows, Long viewerId) {
+        if (rows.isEmpty()) return List.of();
+        List<Long> postIds = new ArrayList<>(rows.size());
+        Set<Long> userIds = new HashSet<>();
+        for (PostListRow r : rows) {
+            postIds.add(r.id());
+            if (r.userId() != null) userIds.add(r.userId());
+        }
+        Extras x = load(postIds, userIds, viewerId);
+
+        List<PostResponse> out = new ArrayList<>(rows.size());
+        for (PostListRow r : rows) {
+            out.add(x.apply(PostResponse.builder(), r.id(), r.userId())
+                    .visibility(r.visibility())
+                    .title(r.title())
+                    .excerpt(r.excerpt())
+                    .blockComment(r.blockComment())
+                    .likesCount(x.likes(r.id(), r.likesCount()))
+                    .viewsCount(x.views(r.id(), r.viewsCount()))
+                    .deleted(r.deleted())
+                    .goalId(r.goalId())
+                    .postDate(r.postDate())
+                    .createdAt(r.createdAt())
+                    .updatedAt(r.updatedAt())
+                    .build());
+        }
+        return out;
+    }
+
+    /* ---------- 부가 정보 일괄 조회 ---------- */
+
+    private Extras load(List<Long> postIds, Set<Long> userIds, Long viewerId) {
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (Object[] row : tagRepository.findTagNamesByPostIdIn(postIds)) {
+            tags.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        PostStateStore.ViewerState viewer = viewerId == null
+                ? PostStateStore.ViewerState.EMPTY
+                : state.viewerState(viewerId, postIds);
+        return new Extras(loadAuthors(userIds), tags, viewer.liked(), viewer.bookmarked(),
+                state.pending(PostStateStore.Counter.VIEWS, postIds),
+                state.pending(PostStateStore.Counter.LIKES, postIds));
+    }
+
+    /** 작성자 이름(닉네임 없으면 이름) + 프로필 이미지 */
+    private Map<Long, Author> loadAuthors(Set<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        Map<Long, Object[]> images = new HashMap<>();
+        for (Object[] row : profileRepository.findImagesByUserIdIn(userIds)) images.put((Long) row[0], row);
+
+        Map<Long, Author> out = new HashMap<>();
+        for (Object[] row : userRepository.findDisplayNamesByIdIn(userIds)) {
+            Long id = (Long) row[0];
+            String nickname = (String) row[1];
+            if (nickname == null || nickname.isBlank()) nickname = (String) row[2];
+            Object[] img = images.get(id);
+            out.put(id, new Author(nickname,
+                    img != null ? (String) img[1] : null,
+                    img != null ? (LocalDateTime) img[2] : null));
+        }
+        return out;
+    }
+
+    private static Long authorId(Post p) {
+        return p.getUser() != null ? p.getUser().getId() : null;
+    }
+}
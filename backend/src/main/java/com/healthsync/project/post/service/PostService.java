@@ -1,19 +1,19 @@
 package com.healthsync.project.post.service;
 
-import com.healthsync.project.account.profile.domain.Profile;
-import com.healthsync.project.account.profile.repository.ProfileRepository;
 import com.healthsync.project.account.user.domain.User;
 import com.healthsync.project.account.user.repository.UserRepository;
 import com.healthsync.project.post.constant.Visibility;
 import com.healthsync.project.post.domain.Post;
-import com.healthsync.project.post.domain.PostLike;
 import com.healthsync.project.post.domain.Tag;
 import com.healthsync.project.post.dto.postdto.PostCreateRequest;
+import com.healthsync.project.post.dto.postdto.PostFeedResponse;
+import com.healthsync.project.post.dto.postdto.PostListRow;
 import com.healthsync.project.post.dto.postdto.PostResponse;
 import com.healthsync.project.post.dto.postdto.PostUpdateRequest;
 import com.healthsync.project.post.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -21,10 +21,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -32,11 +33,16 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final PostCommentRepository postCommentRepository;
-    private final TagRepository tagRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository likeRepository;
     private final PostBookmarkRepository bookmarkRepository;
-    private final ProfileRepository profileRepository;
+    private final PostResponseAssembler assembler;
+    private final PostViewCounter viewCounter;
+    private final PostLikeCounter likeCounter;
+    private final PostStateStore state;
+    private final PostTrending trending;
+    private final TagLeaderboard tagLeaderboard;
+    private final TagResolver tagResolver;
 
     // 테스트 코드
     @Transactional
@@ -44,7 +50,7 @@ public class PostService {
         requireLogin(userId);
         User author = userRepository.getReferenceById(userId);
 
-        List<Tag> tags = upsertTags(req.getTags());
+        List<Tag> tags = tagResolver.resolve(req.getTags());
 
         Post post = Post.create(
                 author,
@@ -59,13 +65,14 @@ public class PostService {
         );
 
         Post saved = postRepository.save(post);
-        return toResponse(saved, 0L);
+        tagLeaderboard.onChange(Set.of(), TagLeaderboard.publicTags(saved));
+        return assembler.assemble(saved, null);
     }
 
 
     @Transactional(readOnly = true)
 // ✅ 1. 메서드 시그니처에 Long currentUserId 파라미터를 추가합니다.
-    public PostResponse getPost(Long postId, boolean increaseView, Long currentUserId) {
+    public PostResponse getPost(Long postId, boolean increaseView, Long currentUserId, String viewerKey) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
 
@@ -83,34 +90,79 @@ public class PostService {
         }
 
         if (increaseView) {
-            post.increaseViews();
+            if (viewCounter.record(post.getId(), viewerKey)) { // 메모리 누적 → 주기적으로 일괄 반영
+                trending.recordView(post.getId());
+            }
         }
 
-        // toResponse 메서드에도 currentUserId를 넘겨주도록 수정합니다. (좋아요, 북마크 여부 등을 확인하기 위함)
-        return toResponse(post, currentUserId);
+        // 좋아요, 북마크 여부 등은 currentUserId 기준
+        return assembler.assemble(post, currentUserId);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getPublicPosts(Pageable pageable) {
-        return postRepository.findByDeletedFalseAndVisibility(Visibility.PUBLIC, pageable)
-                .map(p -> toResponse(p, 0L));
+        return assembler.assembleList(postRepository.findListByVisibility(Visibility.PUBLIC, pageable), null);
+    }
+
+    /**
+     * 공개 피드 (keyset). 커서 = 직전 페이지 마지막 글의 (created_at, post_id).
+     * offset/count 가 없어 몇 번째 페이지든 같은 인덱스 범위 탐색 1번.
+     */
+    @Transactional(readOnly = true)
+    public PostFeedResponse getPublicFeed(String cursor, int size, Long currentUserId) {
+        int limit = Math.max(1, Math.min(size, 50));
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable page = PageRequest.of(0, limit + 1); // 1건 더 읽어서 다음 페이지 여부 판단
+        List<PostListRow> rows = (after == null)
+                ? postRepository.findFeedFirst(Visibility.PUBLIC, page)
+                : postRepository.findFeedAfter(Visibility.PUBLIC, after.createdAt(), after.id(), page);
+
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) rows = rows.subList(0, limit);
+        PostListRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+
+        return PostFeedResponse.builder()
+                .items(assembler.assembleList(rows, currentUserId))
+                .nextCursor(hasNext ? new FeedCursor(last.createdAt(), last.id()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 인기 글 (PostTrending 스냅샷 순서). 스냅샷의 id 들을 IN 한 번으로 읽고
+     * 그 사이 비공개 전환/삭제된 글은 빠짐 → 스냅샷에서 여유분까지 받아 size 만큼 채움.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getTrending(int size, Long currentUserId) {
+        int limit = Math.max(1, Math.min(size, 50));
+        List<Long> ids = trending.top(limit * 2);
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, PostListRow> byId = new HashMap<>();
+        for (PostListRow r : postRepository.findPublicListByIdIn(ids)) byId.put(r.id(), r);
+        List<PostListRow> rows = new ArrayList<>(limit);
+        for (Long id : ids) {
+            PostListRow r = byId.get(id);
+            if (r != null) rows.add(r);
+            if (rows.size() == limit) break;
+        }
+        return assembler.assembleList(rows, currentUserId);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getMyPosts(Long userId, Pageable pageable) {
         requireLogin(userId);
-        return postRepository.findByDeletedFalseAndUser_Id(userId, pageable)
-                .map(p -> toResponse(p, 0L));
+        return assembler.assembleList(postRepository.findListByUserId(userId, pageable), null);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getMyLikedPosts(Long userId, Pageable pageable) {
         requireLogin(userId);
-        // PostLikeRepository를 사용하여 특정 사용자가 '좋아요'한 Post 목록을 가져옵니다.
-        Page<Post> likedPostsPage = likeRepository.findLikedPostsByUserId(userId, pageable);
+        // PostLikeRepository를 사용하여 특정 사용자가 '좋아요'한 글 목록을 가져옵니다. (본문 제외 projection)
+        Page<PostListRow> likedPostsPage = likeRepository.findLikedListByUserId(userId, pageable);
 
-        // 각 Post 엔티티를 PostResponse DTO로 변환합니다.
-        return likedPostsPage.map(post -> toResponse(post, userId));
+        // 페이지 단위로 작성자/태그/좋아요/북마크를 묶어서 조회해 PostResponse 로 변환합니다.
+        return assembler.assembleList(likedPostsPage, userId);
     }
 
 
@@ -122,7 +174,8 @@ public class PostService {
 
         assertOwnerOrThrow(post, userId);
 
-        List<Tag> tags = upsertTags(req.getTags());
+        Set<String> tagsBefore = TagLeaderboard.publicTags(post);
+        List<Tag> tags = tagResolver.resolve(req.getTags());
         post.update(
                 req.getTitle(),
                 req.getContentTxt(),
@@ -133,8 +186,9 @@ public class PostService {
                 req.getPostDate(),
                 tags
         );
+        tagLeaderboard.onChange(tagsBefore, TagLeaderboard.publicTags(post));
 
-        return toResponse(post, 0L);
+        return assembler.assemble(post, null);
     }
 
     @Transactional
@@ -146,7 +200,10 @@ public class PostService {
 
         // 1) 댓글 하드 삭제 (FK 안전)
         postCommentRepository.hardDeleteByPostId(postId);
+        Set<String> tagsBefore = TagLeaderboard.publicTags(post);
         post.softDelete();
+        tagLeaderboard.onChange(tagsBefore, Set.of());
+        trending.remove(postId);
     }
 
     /* =========================
@@ -163,54 +220,38 @@ public class PostService {
         }
     }
 
-    private List<Tag> upsertTags(List<String> names) {
-        if (names == null) return List.of();
-        List<Tag> tags = new ArrayList<>();
-        for (String t : names) {
-            if (t == null || t.isBlank()) continue;
-            Tag tag = tagRepository.findByTagName(t).orElseGet(() -> Tag.createFreeTag(t));
-            tags.add(tag);
-        }
-        return tags;
-    }
-
     @Transactional
     public void likePost(Long userId, Long postId) {
         requireLogin(userId);
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
-        User user = userRepository.getReferenceById(userId);
-
-        // 이미 좋아요를 눌렀다면 아무것도 하지 않음
-        if (likeRepository.existsByUser_IdAndPost_Id(userId, postId)) {
-            return;
+        if (!postRepository.existsById(postId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        }
+        // 이미 좋아요를 눌렀다면 unique 제약으로 무시됨 (exists → insert 사이 경쟁 없음)
+        if (likeRepository.insertIgnore(postId, userId, Instant.now()) == 1) {
+            // 커밋된 뒤에만 카운터/상태/순위 반영 (롤백 시 유령 +1 방지)
+            AfterCommit.run(() -> {
+                likeCounter.record(postId, +1); // post.likes_count 는 주기적으로 일괄 반영
+                state.setLiked(userId, postId, true);
+                trending.recordLike(postId, +1);
+            });
         }
-
-        // PostLike 테이블에 '좋아요' 기록을 생성하고 저장
-        PostLike like = new PostLike(null, post, user, Instant.now());
-        likeRepository.save(like);
-
-        // Post 엔티티의 카운터도 1 증가
-        post.increaseLikes();
     }
 
     @Transactional
     public void unlikePost(Long userId, Long postId) {
         requireLogin(userId);
-
-        // PostLike 테이블에서 '좋아요' 기록을 찾아서 삭제
-        likeRepository.findByUser_IdAndPost_Id(userId, postId)
-                .ifPresent(like -> {
-                    Post post = like.getPost();
-                    likeRepository.delete(like);
-                    // Post 엔티티의 카운터도 1 감소
-                    post.decreaseLikes();
-                });
+        if (likeRepository.deleteByUserAndPost(userId, postId) == 1) {
+            AfterCommit.run(() -> {
+                likeCounter.record(postId, -1);
+                state.setLiked(userId, postId, false);
+                trending.recordLike(postId, -1);
+            });
+        }
     }
 
-    // 조회수 +1 (동시성 안전: JPQL UPDATE)
-    @Transactional
-    public void increasePostView(Long postId) {
+    // 조회수 +1 (행 UPDATE 없이 PostViewCounter 에 누적, viewerKey 기준 중복 제외)
+    @Transactional(readOnly = true)
+    public void increasePostView(Long postId, String viewerKey) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
         if (post.getVisibility() == Visibility.PRIVATE) {
@@ -219,7 +260,9 @@ public class PostService {
         if (post.isDeleted()) {
             throw new ResponseStatusException(HttpStatus.GONE, "삭제된 게시글입니다.");
         }
-        postRepository.increaseViews(postId);
+        if (viewCounter.record(postId, viewerKey)) {
+            trending.recordView(postId);
+        }
     }
 
 
@@ -228,7 +271,7 @@ public class PostService {
         Post p = postRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
         if (p.isDeleted()) throw new ResponseStatusException(HttpStatus.GONE, "삭제된 게시글입니다.");
-        return toResponse(p, 0L); // bookmarksCount 미사용이면 0L
+        return assembler.assemble(p, null);
     }
 
     private void assertReadable(Post post, Long userId) {
@@ -242,59 +285,4 @@ public class PostService {
             }
         }
     }
-
-    private PostResponse toResponse(Post p, Long currentUserId) {
-
-        boolean isLiked = false;
-        boolean isBookmarked = false;
-
-        // 로그인한 사용자일 경우에만 좋아요/북마크 여부를 확인합니다.
-        if (currentUserId != null) {
-            isLiked = likeRepository.existsByUser_IdAndPost_Id(currentUserId, p.getId());
-            isBookmarked = bookmarkRepository.existsByUser_IdAndPost_Id(currentUserId, p.getId());
-        }
-
-        String nickname = null;
-        if (p.getUser() != null) {
-            nickname = p.getUser().getNickname();
-            if (nickname == null || nickname.isBlank()) {
-                nickname = p.getUser().getName(); // 또는 "익명"
-            }
-        }
-
-        String imgUrl = null;
-        LocalDateTime imgUpdatedAt = null;
-        if (p.getUser() != null && p.getUser().getId() != null) {
-            Profile pr = profileRepository.findById(p.getUser().getId()).orElse(null);
-            if (pr != null) {
-                imgUrl = pr.getProfileImageUrl();
-                imgUpdatedAt = pr.getUpdatedAt();
-            }
-        }
-
-        return PostResponse.builder()
-                .id(p.getId())
-                .userId(p.getUser() != null ? p.getUser().getId() : null)
-                .authorNickname(nickname)
-                .authorProfileImageUrl(imgUrl)              // ✅ 추가
-                .authorProfileImageUpdatedAt(imgUpdatedAt)
-                .visibility(p.getVisibility())
-                .title(p.getTitle())
-                .contentTxt(p.getContentTxt())
-                .contentJson(p.getContentJson())
-                .blockComment(p.isBlockComment())
-                .likesCount(p.getLikesCount())
-                .viewsCount(p.getViewsCount())
-                .deleted(p.isDeleted())
-                .goalId(p.getGoalId())
-                .postDate(p.getPostDate())
-                .createdAt(p.getCreatedAt())
-                .updatedAt(p.getUpdatedAt())
-                .tags(p.getTag() == null ? List.of()
-                        : p.getTag().stream().map(Tag::getTagName).collect(Collectors.toList()))
-                // ✅ 4. 방금 계산한 값을 DTO에 담아줍니다.
-                .likedByMe(isLiked)
-                .bookmarkedByMe(isBookmarked)
-                .build();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.healthsync.project.post.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+/**
+ * 게시글 핫 상태 저장소 (posts.state.store = memory | redis).
+ * - 카운터: MySQL 에 아직 반영 안 된 조회수/좋아요 증감분.
+ *   PostViewCounter / PostLikeCounter 가 주기적으로 drain → JDBC batch 로 post.*_count 에 반영
+ * - 조회자 상태: 사용자별 좋아요/북마크 글 id 집합. 처음 조회 때 MySQL 에서 한 번 적재하고,
+ *   이후에는 좋아요/북마크 행을 바꾼 트랜잭션이 커밋된 뒤 함께 갱신 (MySQL 먼저 → 저장소, AfterCommit). viewer-ttl 이 지나면 다시 적재
+ * memory 는 단일 인스턴스/개발용, redis 는 여러 인스턴스가 같은 카운터와 집합을 공유.
+ */
+public interface PostStateStore {
+
+    enum Counter { VIEWS, LIKES }
+
+    /** 한 페이지 글 중 이 사용자가 좋아요/북마크한 글 id */
+    record ViewerState(Set<Long> liked, Set<Long> bookmarked) {
+        public static final ViewerState EMPTY = new ViewerState(Set.of(), Set.of());
+    }
+
+    /* ---------- 카운터 ---------- */
+
+    void add(Counter c, long postId, long delta);
+
+    /** 미반영 증감분 (0 인 글은 빠짐) */
+    Map<Long, Long> pending(Counter c, Collection<Long> postIds);
+
+    default long pending(Counter c, long postId) {
+        return pending(c, List.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    /** 미반영 증감분을 꺼내고 비움 */
+    Map<Long, Long> drain(Counter c);
+
+    /** 반영 실패분 되돌리기 */
+    void restore(Counter c, Map<Long, Long> drained);
+
+    /** 미반영 증감분이 있는 글 수 (메트릭) */
+    long pendingPosts(Counter c);
+
+    /**
+     * drain → JDBC batch (sql 파라미터 순서: 증감분, 글 id). id 오름차순이라 행 잠금 순서가 고정됨.
+     * 반영한 증감분 합계. 실패하면 꺼낸 값을 되돌리고 예외를 그대로 던짐 (다음 주기에 재시도)
+     */
+    default long flushTo(Counter c, JdbcTemplate jdbc, String sql) {
+        Map<Long, Long> drained = new TreeMap<>(drain(c));
+        if (drained.isEmpty()) return 0;
+        List<Object[]> args = new ArrayList<>(drained.size());
+        long total = 0;
+        for (Map.Entry<Long, Long> e : drained.entrySet()) {
+            args.add(new Object[]{e.getValue(), e.getKey()});
+            total += e.getValue();
+        }
+        try {
+            jdbc.batchUpdate(sql, args);
+            return total;
+        } catch (RuntimeException e) {
+            restore(c, drained);
+            throw e;
+        }
+    }
+
+    /* ---------- 조회자 상태 ---------- */
+
+    ViewerState viewerState(long userId, Collection<Long> postIds);
+
+    /** post_likes 행을 추가/삭제한 뒤 호출 */
+    void setLiked(long userId, long postId, boolean liked);
+
+    /** post_bookmarks 행을 추가/삭제한 뒤 호출 */
+    void setBookmarked(long userId, long postId, boolean bookmarked);
+}
@@ -0,0 +1,202 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 글 순위 (시간 감쇠 점수).
+ * - 점수 = Σ 가중치 × 2^((사건 시각 - 기준 시각) / half-life)  (forward decay)
+ *   → 새 사건일수록 크게 더해지고, 이미 쌓인 점수는 다시 계산할 필요가 없음 (두 글의 순서는 시간이 지나도 그대로)
+ *   기준 시각이 오래되면 지수가 커지므로 rebase-after 마다 전체를 같은 비율로 줄이고 기준 시각을 옮김
+ * - 조회/좋아요/북마크/댓글 경로에서 record* 로 점수 증감 → (점수, 글 id) 정렬 집합(skip list)도 함께 갱신
+ * - snapshot-interval 마다 상위 snapshot-size 를 떼어 불변 리스트로 보관 → 조회는 스냅샷 앞에서 k 개 (O(k))
+ * - 공개/삭제 여부는 여기서 따지지 않음. 조회 시 PostService 가 한 번의 IN 쿼리로 걸러냄
+ * 기동 시 최근 seed-window 안에 쓴 공개 글의 조회수/좋아요 수를 작성 시각 기준 점수로 채움.
+ */
+@Slf4j
+@Component
+public class PostTrending implements MeterBinder {
+
+    private record Entry(double score, long postId) {}
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final PostProps props;
+    private final JdbcTemplate jdbc;
+
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> ranked = new ConcurrentSkipListSet<>(ORDER);
+    /** 점수 갱신은 read lock (서로 동시에), rebase 는 write lock (전체 재작성) */
+    private final ReentrantReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+
+    private volatile long landmarkMillis = System.currentTimeMillis();
+    private volatile List<Long> snapshot = List.of();
+
+    public PostTrending(PostProps props, JdbcTemplate jdbc) {
+        this.props = props;
+        this.jdbc = jdbc;
+    }
+
+    /* ---------- 사건 ---------- */
+
+    public void recordView(long postId) {
+        record(postId, props.getTrending().getViewWeight(), System.currentTimeMillis());
+    }
+
+    /** 좋아요 +1 / 취소 -1 */
+    public void recordLike(long postId, int delta) {
+        record(postId, delta * props.getTrending().getLikeWeight(), System.currentTimeMillis());
+    }
+
+    public void recordBookmark(long postId, int delta) {
+        record(postId, delta * props.getTrending().getBookmarkWeight(), System.currentTimeMillis());
+    }
+
+    public void recordComment(long postId) {
+        record(postId, props.getTrending().getCommentWeight(), System.currentTimeMillis());
+    }
+
+    /** 삭제된 글은 바로 뺌 */
+    public void remove(long postId) {
+        removeIf(postId, null);
+    }
+
+    /** expected 가 있으면 현재 점수가 그 값일 때만 제거 (정리 중 그 사이 점수가 바뀐 글은 남김) */
+    private boolean removeIf(long postId, Double expected) {
+        boolean[] removed = {false};
+        rebaseLock.readLock().lock();
+        try {
+            scores.computeIfPresent(postId, (id, old) -> {
+                if (expected != null && old.doubleValue() != expected) return old;
+                ranked.remove(new Entry(old, id));
+                removed[0] = true;
+                return null;
+            });
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+        return removed[0];
+    }
+
+    private void record(long postId, double weight, long atMillis) {
+        if (!props.getTrending().isEnabled() || weight == 0) return;
+        rebaseLock.readLock().lock();
+        try {
+            double add = weight * decayFactor(atMillis);
+            scores.compute(postId, (id, old) -> {
+                double next = Math.max(0, (old == null ? 0 : old) + add); // 취소가 더 커도 음수로 내려가지 않음
+                if (old != null) ranked.remove(new Entry(old, id));
+                ranked.add(new Entry(next, id));
+                return next;
+            });
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    private double decayFactor(long atMillis) {
+        double halfLife = props.getTrending().getHalfLife().toMillis();
+        return Math.pow(2, (atMillis - landmarkMillis) / halfLife);
+    }
+
+    /* ---------- 조회 ---------- */
+
+    /** 상위 글 id (스냅샷 기준, 공개 여부 미확인 → 호출측이 여유 있게 받아서 거름) */
+    public List<Long> top(int k) {
+        List<Long> s = snapshot;
+        return s.size() <= k ? s : s.subList(0, k);
+    }
+
+    /* ---------- 스냅샷 / 정리 ---------- */
+
+    @Scheduled(fixedDelayString = "${posts.trending.snapshot-interval:PT30S}")
+    public void refreshSnapshot() {
+        PostProps.Trending t = props.getTrending();
+        if (!t.isEnabled()) return;
+        long now = System.currentTimeMillis();
+        if (now - landmarkMillis > t.getRebaseAfter().toMillis()) rebase(now);
+
+        // 순회 중 record() 가 점수를 낮춰 다시 넣은 글은 iterator 뒤쪽에서 한 번 더 보일 수 있음 → id 로 중복 제거
+        int size = t.getSnapshotSize();
+        Set<Long> top = new LinkedHashSet<>(size * 2);
+        for (Entry e : ranked) {
+            if (top.size() >= size) break;
+            top.add(e.postId());
+        }
+        snapshot = List.copyOf(top);
+        prune(now);
+    }
+
+    /** 오래돼 점수가 사실상 0 인 글, max-tracked 를 넘는 하위 글 제거 */
+    private void prune(long now) {
+        PostProps.Trending t = props.getTrending();
+        // 지금 시점 가치로 환산해 min-score 미만이면 제거
+        double floor = t.getMinScore() * decayFactor(now);
+        int over = scores.size() - t.getMaxTracked();
+        Iterator<Entry> it = ranked.descendingIterator(); // 낮은 점수부터
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.score() >= floor && over <= 0) break;
+            // iterator 가 본 항목이 이미 다른 점수로 바뀌었으면 (record 가 다시 넣음) 건드리지 않음
+            if (removeIf(e.postId(), e.score())) over--;
+        }
+    }
+
+    /** 기준 시각을 now 로 옮기고 모든 점수에 같은 배율을 곱함 (순서 불변) */
+    private void rebase(long now) {
+        rebaseLock.writeLock().lock();
+        try {
+            double scale = 1 / decayFactor(now);
+            List<Entry> all = new ArrayList<>(ranked);
+            ranked.clear();
+            for (Entry e : all) {
+                double s = e.score() * scale;
+                scores.put(e.postId(), s);
+                ranked.add(new Entry(s, e.postId()));
+            }
+            landmarkMillis = now;
+            log.debug("[post-trending] rebase: tracked={}", all.size());
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    /** 기동 시 최근 글의 누적 조회수/좋아요 수를 작성 시각에 일어난 것으로 보고 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        PostProps.Trending t = props.getTrending();
+        if (!t.isEnabled()) return;
+        Instant since = Instant.now().minus(t.getSeedWindow());
+        jdbc.query("""
+                SELECT post_id, views_count, likes_count, created_at FROM post
+                WHERE is_delete = 0 AND visibility = 'PUBLIC' AND created_at >= ?
+                ORDER BY created_at DESC LIMIT ?
+                """, rs -> {
+            long at = rs.getTimestamp(4).getTime();
+            record(rs.getLong(1), rs.getLong(2) * t.getViewWeight() + rs.getLong(3) * t.getLikeWeight(), at);
+        }, Timestamp.from(since), t.getMaxTracked());
+        refreshSnapshot();
+        log.info("[post-trending] seed: tracked={}", scores.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.trending.tracked", scores, Map::size).register(registry);
+    }
+}
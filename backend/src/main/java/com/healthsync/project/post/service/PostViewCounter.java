@@ -0,0 +1,105 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind.
+ * - 조회 1건 = PostStateStore 카운터에 +1 (행 잠금 없음)
+ * - flush-interval 마다 누적분을 UPDATE ... views_count = views_count + ? 한 번의 JDBC batch 로 반영
+ *   (id 오름차순이라 동시 flush/다른 트랜잭션과 잠금 순서가 엇갈리지 않음). 실패하면 누적분을 되돌려 다음 주기에 재시도
+ * - 종료 시 @PreDestroy 에서 마지막 flush → 정상 종료면 유실 없음 (비정상 종료 시 최대 한 주기분 유실)
+ * - 같은 조회자(로그인 id / IP)가 dedupe-window 안에 같은 글을 다시 보면 집계하지 않음
+ * 응답의 viewsCount 는 DB 값 + 저장소의 미반영분으로 보정 (PostResponseAssembler).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter implements MeterBinder {
+
+    private static final String FLUSH_SQL = "UPDATE post SET views_count = views_count + ? WHERE post_id = ?";
+
+    private final PostProps props;
+    private final JdbcTemplate jdbc;
+    private final PostStateStore store;
+
+    /** 조회자|글 id → 중복 집계 금지 만료 시각(ms) */
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder deduped = new LongAdder();
+
+    /** 조회 1건. viewerKey 가 null 이면 중복 확인 없이 집계. 집계했으면 true */
+    public boolean record(long postId, String viewerKey) {
+        if (viewerKey != null && isRepeat(postId, viewerKey)) {
+            deduped.increment();
+            return false;
+        }
+        store.add(PostStateStore.Counter.VIEWS, postId, 1);
+        return true;
+    }
+
+    private boolean isRepeat(long postId, String viewerKey) {
+        long window = props.getViews().getDedupeWindow().toMillis();
+        if (window <= 0) return false;
+        long now = System.currentTimeMillis();
+        String key = viewerKey + '|' + postId;
+        Long until = recent.get(key);
+        if (until != null && until > now) return true;
+        if (until == null && recent.size() >= props.getViews().getDedupeMaxEntries()) return false; // 가득 차면 그냥 집계
+        boolean[] repeat = {false};
+        recent.compute(key, (k, prev) -> {
+            if (prev != null && prev > now) {
+                repeat[0] = true;
+                return prev;
+            }
+            return now + window;
+        });
+        return repeat[0];
+    }
+
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval:PT5S}")
+    public void scheduledFlush() {
+        flush();
+        long now = System.currentTimeMillis();
+        recent.values().removeIf(until -> until <= now);
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        long n = flush();
+        if (n > 0) log.info("[post-views] 종료 전 {}건 반영", n);
+    }
+
+    /** 누적분 반영. 반영한 조회수 합 */
+    synchronized long flush() {
+        try {
+            long n = store.flushTo(PostStateStore.Counter.VIEWS, jdbc, FLUSH_SQL);
+            flushed.add(n);
+            return n;
+        } catch (RuntimeException e) {
+            log.warn("[post-views] flush 실패, 다음 주기에 재시도 ({})", e.toString());
+            return 0;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.views.pending.posts", store, s -> s.pendingPosts(PostStateStore.Counter.VIEWS))
+                .description("DB 미반영 조회수가 있는 글 수").register(registry);
+        FunctionCounter.builder("post.views.flushed", flushed, LongAdder::sum).register(registry);
+        FunctionCounter.builder("post.views.deduped", deduped, LongAdder::sum).register(registry);
+    }
+}
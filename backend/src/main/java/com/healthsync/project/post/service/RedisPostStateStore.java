@@ -0,0 +1,187 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import com.healthsync.project.post.repository.PostBookmarkRepository;
+import com.healthsync.project.post.repository.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * PostStateStore Redis 구현 (posts.state.store=redis, 여러 인스턴스가 같은 상태를 공유).
+ * - 카운터: hash post:pending:{views|likes} (field = 글 id, HINCRBY)
+ *   drain 은 RENAMENX 로 :draining 키로 옮긴 뒤 읽고 삭제 → 인스턴스끼리 같은 증감분을 두 번 반영하지 않음.
+ *   :draining 키는 5분 뒤 만료 (flush 도중 죽은 인스턴스가 남긴 키가 drain 을 영구히 막지 않도록)
+ * - 조회자 집합: set post:viewer:{userId}:{liked|bookmarked}, 멤버 "0" = MySQL 에서 적재 완료 표시 (post_id 는 1부터)
+ *   한 페이지의 좋아요/북마크 여부는 SMISMEMBER 두 번을 한 파이프라인으로 → 왕복 1회
+ *   적재 표시가 없는 집합(만료/적재 전 SADD 로 생긴 부분 집합)은 MySQL 에서 다시 채움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "posts.state.store", havingValue = "redis")
+public class RedisPostStateStore implements PostStateStore {
+
+    private static final String LOADED = "0";
+    private static final Duration DRAINING_TTL = Duration.ofMinutes(5);
+
+    private final PostProps props;
+    private final StringRedisTemplate redis;
+    private final PostLikeRepository likeRepository;
+    private final PostBookmarkRepository bookmarkRepository;
+
+    /* ---------- 카운터 ---------- */
+
+    private static String counterKey(Counter c) {
+        return "post:pending:" + c.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void add(Counter c, long postId, long delta) {
+        if (delta != 0) redis.opsForHash().increment(counterKey(c), Long.toString(postId), delta);
+    }
+
+    @Override
+    public Map<Long, Long> pending(Counter c, Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        List<Object> fields = new ArrayList<>(postIds.size());
+        for (Long id : postIds) fields.add(id.toString());
+        List<Object> values = redis.opsForHash().multiGet(counterKey(c), fields); // HMGET 1회
+        Map<Long, Long> out = new HashMap<>();
+        Iterator<Long> ids = postIds.iterator();
+        for (Object v : values) {
+            Long id = ids.next();
+            if (v != null) {
+                long n = Long.parseLong(v.toString());
+                if (n != 0) out.put(id, n);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public Map<Long, Long> drain(Counter c) {
+        String key = counterKey(c), draining = key + ":draining";
+        try {
+            if (!Boolean.TRUE.equals(redis.hasKey(key))) return Map.of();
+            if (!Boolean.TRUE.equals(redis.renameIfAbsent(key, draining))) return Map.of(); // 다른 인스턴스가 drain 중
+        } catch (RuntimeException e) {
+            log.debug("[post-state] drain {} 건너뜀: {}", key, e.toString()); // 사이에 다른 인스턴스가 옮김
+            return Map.of();
+        }
+        redis.expire(draining, DRAINING_TTL);
+        Map<Object, Object> entries = redis.opsForHash().entries(draining);
+        redis.delete(draining);
+        Map<Long, Long> out = new HashMap<>();
+        entries.forEach((k, v) -> {
+            long n = Long.parseLong(v.toString());
+            if (n != 0) out.put(Long.parseLong(k.toString()), n);
+        });
+        return out;
+    }
+
+    @Override
+    public void restore(Counter c, Map<Long, Long> drained) {
+        byte[] key = bytes(counterKey(c));
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            drained.forEach((id, n) -> conn.hashCommands().hIncrBy(key, bytes(id.toString()), n));
+            return null;
+        });
+    }
+
+    @Override
+    public long pendingPosts(Counter c) {
+        Long n = redis.opsForHash().size(counterKey(c));
+        return n == null ? 0 : n;
+    }
+
+    /* ---------- 조회자 상태 ---------- */
+
+    private static String likedKey(long userId) {
+        return "post:viewer:" + userId + ":liked";
+    }
+
+    private static String bookmarkedKey(long userId) {
+        return "post:viewer:" + userId + ":bookmarked";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ViewerState viewerState(long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) return ViewerState.EMPTY;
+        List<Long> ids = new ArrayList<>(postIds);
+        byte[][] members = new byte[ids.size() + 1][];
+        members[0] = bytes(LOADED);
+        for (int i = 0; i < ids.size(); i++) members[i + 1] = bytes(ids.get(i).toString());
+
+        List<Object> res = redis.executePipelined((RedisCallback<Object>) conn -> {
+            conn.setCommands().sMIsMember(bytes(likedKey(userId)), members);
+            conn.setCommands().sMIsMember(bytes(bookmarkedKey(userId)), members);
+            return null;
+        });
+        Set<Long> liked = pick(ids, (List<Boolean>) res.get(0), () -> load(likedKey(userId), likeRepository.findPostIdsByUserId(userId)));
+        Set<Long> bookmarked = pick(ids, (List<Boolean>) res.get(1), () -> load(bookmarkedKey(userId), bookmarkRepository.findPostIdsByUserId(userId)));
+        return new ViewerState(liked, bookmarked);
+    }
+
+    /** SMISMEMBER 결과 → 포함된 글 id. 적재 표시가 없으면 MySQL 값으로 채우고 그 값으로 답함 */
+    private static Set<Long> pick(List<Long> ids, List<Boolean> flags, Supplier<Set<Long>> loader) {
+        Set<Long> out = new HashSet<>();
+        if (flags == null || flags.isEmpty() || !Boolean.TRUE.equals(flags.get(0))) {
+            Set<Long> all = loader.get();
+            for (Long id : ids) if (all.contains(id)) out.add(id);
+            return out;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(flags.get(i + 1))) out.add(ids.get(i));
+        }
+        return out;
+    }
+
+    private Set<Long> load(String key, Set<Long> fromDb) {
+        byte[] k = bytes(key);
+        byte[][] members = new byte[fromDb.size() + 1][];
+        members[0] = bytes(LOADED);
+        int i = 1;
+        for (Long id : fromDb) members[i++] = bytes(id.toString());
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            conn.setCommands().sAdd(k, members);
+            conn.keyCommands().expire(k, props.getState().getViewerTtl().toSeconds());
+            return null;
+        });
+        return fromDb;
+    }
+
+    @Override
+    public void setLiked(long userId, long postId, boolean liked) {
+        toggle(likedKey(userId), postId, liked);
+    }
+
+    @Override
+    public void setBookmarked(long userId, long postId, boolean bookmarked) {
+        toggle(bookmarkedKey(userId), postId, bookmarked);
+    }
+
+    /** 적재 전 키에 SADD 해도 적재 표시가 없으므로 다음 조회 때 MySQL 에서 다시 채워짐 */
+    private void toggle(String key, long postId, boolean add) {
+        byte[] k = bytes(key), m = bytes(Long.toString(postId));
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            if (add) conn.setCommands().sAdd(k, m);
+            else conn.setCommands().sRem(k, m);
+            conn.keyCommands().expire(k, props.getState().getViewerTtl().toSeconds());
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
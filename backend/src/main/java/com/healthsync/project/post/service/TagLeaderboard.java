@@ -0,0 +1,193 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import com.healthsync.project.post.constant.Visibility;
+import com.healthsync.project.post.domain.Post;
+import com.healthsync.project.post.domain.Tag;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 태그 (tag_stats 기반, 요청마다 GROUP BY 하지 않음).
+ * - 글 하나가 기여하는 태그 = 공개·미삭제 글의 태그 이름 집합 (아니면 빈 집합)
+ *   작성/수정/삭제 때 변경 전후 집합의 차이만큼 태그별 ±1 → 메모리 합계(totals)와 미반영분(pending)에 함께 누적
+ * - flush-interval 마다 미반영분을 tag_stats 에 한 번의 JDBC batch upsert 로 반영하고,
+ *   바뀐 게 있으면 상위 snapshot-size 개를 크기 제한 heap 으로 다시 뽑아 불변 리스트로 보관 → 조회는 앞에서 limit 개 (O(limit))
+ * - 기동 시, 그리고 rebuild-interval 마다 post ⨝ post_tag ⨝ tag 집계로 tag_stats 를 통째로 맞추고 totals 를 다시 적재
+ *   (롤백된 트랜잭션의 증감분, 다른 인스턴스의 증감분이 여기서 정리됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagLeaderboard implements MeterBinder {
+
+    /** 태그 이름 + 공개 글 수 */
+    public record TagCount(String tag, long count) {}
+
+    private static final Comparator<TagCount> ORDER =
+            Comparator.comparingLong(TagCount::count).reversed().thenComparing(TagCount::tag);
+
+    private static final String FLUSH_SQL = """
+            INSERT INTO tag_stats (tag_name, post_count, updated_at) VALUES (?, GREATEST(0, ?), ?)
+            ON DUPLICATE KEY UPDATE post_count = GREATEST(0, post_count + ?), updated_at = VALUES(updated_at)
+            """;
+
+    private final PostProps props;
+    private final JdbcTemplate jdbc;
+
+    private final Map<String, Long> totals = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+    private volatile List<TagCount> snapshot = List.of();
+
+    /** 글이 인기 태그에 기여하는 태그 이름 (공개·미삭제가 아니면 빈 집합) */
+    public static Set<String> publicTags(Post post) {
+        if (post.isDeleted() || post.getVisibility() != Visibility.PUBLIC) return Set.of();
+        Set<String> out = new HashSet<>();
+        for (Tag t : post.getTag()) out.add(t.getTagName());
+        return out;
+    }
+
+    /** 변경 전후 기여 집합 → 태그별 ±1 */
+    public void onChange(Set<String> before, Set<String> after) {
+        for (String t : before) if (!after.contains(t)) add(t, -1);
+        for (String t : after) if (!before.contains(t)) add(t, +1);
+    }
+
+    private void add(String tag, long delta) {
+        totals.merge(tag, delta, (a, b) -> Math.max(0, a + b));
+        pending.computeIfAbsent(tag, k -> new LongAdder()).add(delta);
+        dirty = true;
+    }
+
+    /** 상위 limit 개 (스냅샷 기준) */
+    public List<TagCount> top(int limit) {
+        List<TagCount> s = snapshot;
+        return s.size() <= limit ? s : s.subList(0, limit);
+    }
+
+    /* ---------- 반영 / 스냅샷 ---------- */
+
+    @Scheduled(fixedDelayString = "${posts.tags.flush-interval:PT10S}")
+    public void scheduledFlush() {
+        flush();
+        if (dirty) {
+            dirty = false;
+            refreshSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    synchronized void flush() {
+        Map<String, Long> drained = new TreeMap<>(); // 이름 순 → 행 잠금 순서 고정
+        for (Map.Entry<String, LongAdder> e : pending.entrySet()) {
+            long v = e.getValue().sumThenReset();
+            if (v != 0) drained.put(e.getKey(), v);
+            else pending.remove(e.getKey(), e.getValue());
+        }
+        if (drained.isEmpty()) return;
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.forEach((tag, d) -> args.add(new Object[]{tag, d, now, d}));
+        try {
+            jdbc.batchUpdate(FLUSH_SQL, args);
+        } catch (RuntimeException e) {
+            drained.forEach((tag, d) -> pending.computeIfAbsent(tag, k -> new LongAdder()).add(d));
+            log.warn("[tag-stats] flush 실패, 다음 주기에 재시도 ({})", e.toString());
+        }
+    }
+
+    /** totals 에서 상위 snapshot-size 개 (크기 제한 min-heap, O(태그 수 × log N)) */
+    private void refreshSnapshot() {
+        int size = Math.max(1, props.getTags().getSnapshotSize());
+        PriorityQueue<TagCount> heap = new PriorityQueue<>(size + 1, ORDER.reversed()); // 꼭대기 = 현재 N 개 중 꼴찌
+        for (Map.Entry<String, Long> e : totals.entrySet()) {
+            if (e.getValue() <= 0) continue;
+            heap.add(new TagCount(e.getKey(), e.getValue()));
+            if (heap.size() > size) heap.poll();
+        }
+        List<TagCount> top = new ArrayList<>(heap);
+        top.sort(ORDER);
+        snapshot = List.copyOf(top);
+    }
+
+    /* ---------- 재집계 ---------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.tags.rebuild-interval:PT6H}",
+            initialDelayString = "${posts.tags.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * tag_stats 를 원본 집계 값으로 덮어쓰고 totals 를 다시 적재.
+     * 미반영분을 먼저 반영한 뒤 같은 모니터 안에서 실행 (집계 중 커밋된 글은 다음 재집계 때 맞춰짐)
+     */
+    synchronized void rebuild() {
+        flush();
+        Map<String, Long> actual = new HashMap<>();
+        jdbc.query("""
+                SELECT t.tag_name, COUNT(DISTINCT p.post_id)
+                FROM post p
+                JOIN post_tag pt ON pt.post_id = p.post_id
+                JOIN tag t ON t.tag_id = pt.tag_id
+                WHERE p.is_delete = 0 AND p.visibility = 'PUBLIC'
+                GROUP BY t.tag_name
+                """, rs -> {
+            actual.put(rs.getString(1), rs.getLong(2));
+        });
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(actual.size());
+        actual.forEach((tag, n) -> args.add(new Object[]{tag, n, now}));
+        jdbc.batchUpdate("""
+                INSERT INTO tag_stats (tag_name, post_count, updated_at) VALUES (?, ?, ?)
+                ON DUPLICATE KEY UPDATE post_count = VALUES(post_count), updated_at = VALUES(updated_at)
+                """, args);
+        List<String> gone = new ArrayList<>();
+        jdbc.query("SELECT tag_name FROM tag_stats WHERE post_count > 0", rs -> {
+            String tag = rs.getString(1);
+            if (!actual.containsKey(tag)) gone.add(tag);
+        });
+        if (!gone.isEmpty()) {
+            jdbc.batchUpdate("UPDATE tag_stats SET post_count = 0, updated_at = ? WHERE tag_name = ?",
+                    gone.stream().map(t -> new Object[]{now, t}).toList());
+        }
+
+        totals.clear();
+        totals.putAll(actual);
+        refreshSnapshot();
+        log.info("[tag-stats] rebuild: tags={} zeroed={}", actual.size(), gone.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.tags.tracked", totals, Map::size).register(registry);
+        Gauge.builder("post.tags.pending", pending, Map::size)
+                .description("tag_stats 미반영 증감이 있는 태그 수").register(registry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.healthsync.project.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * tag.idx_tag_name 을 unique 로 전환 (기동 시 1회, 이미 unique 면 select 1번으로 끝).
+ * ddl-auto=update 는 같은 이름의 기존 인덱스를 바꾸지 않으므로 JDBC 로 처리.
+ * 1) 같은 이름 태그 중 가장 작은 tag_id 만 남기고 post_tag 를 그쪽으로 옮김
+ * 2) 그 결과 같은 글에 같은 태그가 두 줄이 된 post_tag 는 한 줄로
+ * 3) 남은 중복 태그 삭제 → 인덱스를 unique 로 다시 만듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagNameIndexMigration {
+
+    private final JdbcTemplate jdbc;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        List<Integer> nonUnique = jdbc.queryForList("""
+                SELECT NON_UNIQUE FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'tag' AND index_name = 'idx_tag_name'
+                """, Integer.class);
+        if (!nonUnique.isEmpty() && nonUnique.get(0) == 0) return;
+
+        int moved = jdbc.update("""
+                UPDATE post_tag pt
+                JOIN tag t ON t.tag_id = pt.tag_id
+                JOIN (SELECT tag_name, MIN(tag_id) AS keep_id FROM tag GROUP BY tag_name HAVING COUNT(*) > 1) k
+                  ON k.tag_name = t.tag_name AND k.keep_id <> t.tag_id
+                SET pt.tag_id = k.keep_id
+                """);
+
+        List<Object[]> dupLinks = jdbc.query(
+                "SELECT post_id, tag_id FROM post_tag GROUP BY post_id, tag_id HAVING COUNT(*) > 1",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getLong(2)});
+        if (!dupLinks.isEmpty()) {
+            jdbc.batchUpdate("DELETE FROM post_tag WHERE post_id = ? AND tag_id = ?", dupLinks);
+            jdbc.batchUpdate("INSERT INTO post_tag (post_id, tag_id) VALUES (?, ?)", dupLinks);
+        }
+
+        int removed = jdbc.update("""
+                DELETE t FROM tag t
+                JOIN (SELECT tag_name, MIN(tag_id) AS keep_id FROM tag GROUP BY tag_name HAVING COUNT(*) > 1) k
+                  ON k.tag_name = t.tag_name AND k.keep_id <> t.tag_id
+                """);
+
+        if (nonUnique.isEmpty()) {
+            jdbc.execute("ALTER TABLE tag ADD UNIQUE INDEX idx_tag_name (tag_name)");
+        } else {
+            jdbc.execute("ALTER TABLE tag DROP INDEX idx_tag_name, ADD UNIQUE INDEX idx_tag_name (tag_name)");
+        }
+        log.info("[tag] idx_tag_name → unique (links moved={}, duplicate links={}, tags removed={})",
+                moved, dupLinks.size(), removed);
+    }
+}
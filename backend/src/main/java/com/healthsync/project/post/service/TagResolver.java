@@ -0,0 +1,139 @@
+package com.healthsync.project.post.service;
+
+import com.healthsync.project.post.config.PostProps;
+import com.healthsync.project.post.domain.Tag;
+import com.healthsync.project.post.repository.TagRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 태그 이름 목록 → Tag 엔티티 (글 작성/수정).
+ * - 이름 정규화: 앞뒤 공백/앞의 '#' 제거, 연속 공백 한 칸, 100자 자름, 같은 이름(대소문자 무시) 중복 제거
+ * - 이름 → tag_id LRU 캐시(resolver-cache-size). 캐시에 있는 id 와 없는 이름을 select 1번으로 함께 읽음
+ * - 없는 이름만 INSERT ... ON DUPLICATE KEY (uk: idx_tag_name) 한 번의 JDBC batch → 잠금 읽기(FOR SHARE) 1번
+ *   동시에 같은 태그를 만들어도 행은 하나 (먼저 들어간 행을 양쪽이 같이 씀). 일반 select 는 REPEATABLE READ 스냅샷이라
+ *   스냅샷 이후 커밋된 행을 못 보므로 재조회는 반드시 잠금 읽기. 그래도 못 찾으면 태그를 버리지 않고 예외
+ * 보통 select 1번, 새 태그가 있으면 select + batch insert + 잠금 읽기.
+ */
+@Component
+public class TagResolver implements MeterBinder {
+
+    private static final String INSERT_SQL = "INSERT INTO tag (tag_name) VALUES (?) ON DUPLICATE KEY UPDATE tag_id = tag_id";
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbc;
+
+    /** 소문자 이름 → tag_id */
+    private final Map<String, Long> ids;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder created = new LongAdder();
+
+    public TagResolver(PostProps props, TagRepository tagRepository, JdbcTemplate jdbc) {
+        this.tagRepository = tagRepository;
+        this.jdbc = jdbc;
+        int max = props.getTags().getResolverCacheSize();
+        this.ids = new LinkedHashMap<>(256, 0.75f, true) { // access-order = LRU
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    /** 정규화한 태그 이름. 비어 있으면 null */
+    public static String normalize(String raw) {
+        if (raw == null) return null;
+        String s = raw.strip();
+        while (s.startsWith("#")) s = s.substring(1).strip();
+        s = s.replaceAll("\\s+", " ");
+        if (s.length() > Tag.NAME_LENGTH) {
+            int end = Tag.NAME_LENGTH;
+            if (Character.isHighSurrogate(s.charAt(end - 1))) end--;
+            s = s.substring(0, end).strip();
+        }
+        return s.isEmpty() ? null : s;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** 입력 순서대로 Tag (영속 상태). 호출측 트랜잭션 안에서 사용 */
+    public List<Tag> resolve(List<String> rawNames) {
+        if (rawNames == null) return List.of();
+        Map<String, String> names = new LinkedHashMap<>(); // key → 표시 이름 (처음 나온 것)
+        for (String raw : rawNames) {
+            String n = normalize(raw);
+            if (n != null) names.putIfAbsent(key(n), n);
+        }
+        if (names.isEmpty()) return List.of();
+
+        List<Long> cachedIds = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        synchronized (ids) {
+            for (Map.Entry<String, String> e : names.entrySet()) {
+                Long id = ids.get(e.getKey());
+                if (id != null) cachedIds.add(id);
+                else unknown.add(e.getValue());
+            }
+        }
+        hits.add(cachedIds.size());
+        misses.add(unknown.size());
+
+        // 빈 IN 을 피하려고 없는 값으로 채움 (tag_id 는 1부터, 정규화된 이름은 비어 있지 않음)
+        Map<String, Tag> found = new HashMap<>();
+        remember(found, tagRepository.findByIdInOrTagNameIn(
+                cachedIds.isEmpty() ? List.of(0L) : cachedIds,
+                unknown.isEmpty() ? List.of("") : unknown));
+
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, String> e : names.entrySet()) {
+            if (!found.containsKey(e.getKey())) missing.add(e.getValue()); // 새 태그, 또는 캐시 id 가 사라진 태그
+        }
+        if (!missing.isEmpty()) {
+            missing.sort(null); // 정렬된 순서로 insert → 동시 insert 끼리 키 잠금 순서 고정
+            jdbc.batchUpdate(INSERT_SQL, missing.stream().map(n -> new Object[]{n}).toList());
+            created.add(missing.size());
+            remember(found, tagRepository.findForShareByTagNameIn(missing));
+        }
+
+        List<Tag> out = new ArrayList<>(names.size());
+        for (Map.Entry<String, String> e : names.entrySet()) {
+            Tag t = found.get(e.getKey());
+            if (t == null) { // collation 상 같은 이름(악센트 등)으로 이미 있던 행 → 이름 하나로 잠금 읽기 (비교는 DB collation)
+                List<Tag> same = tagRepository.findForShareByTagNameIn(List.of(e.getValue()));
+                if (same.isEmpty()) {
+                    throw new IllegalStateException("태그를 만들거나 찾지 못했습니다: " + e.getValue());
+                }
+                t = same.get(0);
+            }
+            out.add(t);
+        }
+        return out;
+    }
+
+    private void remember(Map<String, Tag> found, List<Tag> tags) {
+        synchronized (ids) {
+            for (Tag t : tags) {
+                String k = key(t.getTagName());
+                found.put(k, t);
+                ids.put(k, t.getId());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("post.tags.resolver", hits, LongAdder::sum).tag("result", "hit").register(registry);
+        FunctionCounter.builder("post.tags.resolver", misses, LongAdder::sum).tag("result", "miss").register(registry);
+        FunctionCounter.builder("post.tags.created", created, LongAdder::sum)
+                .description("새로 insert 시도한 태그 이름 수").register(registry);
+    }
+}
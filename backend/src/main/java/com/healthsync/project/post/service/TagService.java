@@ -1,7 +1,7 @@
 package com.healthsync.project.post.service;
 
-import com.healthsync.project.post.domain.Post;
 import com.healthsync.project.post.domain.Tag;
+import com.healthsync.project.post.dto.postdto.PostListRow;
 import com.healthsync.project.post.dto.postdto.PostResponse;
 import com.healthsync.project.post.repository.PostRepository;
 import com.healthsync.project.post.repository.TagRepository;
@@ -25,18 +25,20 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final PostRepository postRepository;
+    private final PostResponseAssembler assembler;
+    private final TagLeaderboard tagLeaderboard;
 
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getPublicPostsByTag(String tagName, Pageable pageable) {
-        Page<Post> page = postRepository.findPublicByTag(tagName, pageable);
-        return page.map(this::toResponse);
+        Page<PostListRow> page = postRepository.findPublicListByTag(tagName, pageable);
+        return assembler.assembleList(page, null);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getMyPostsByTag(Long userId, String tagName, Pageable pageable) {
-        Page<Post> page = postRepository.findMyPostsByTag(userId, tagName, pageable);
-        return page.map(this::toResponse);
+        Page<PostListRow> page = postRepository.findMyListByTag(userId, tagName, pageable);
+        return assembler.assembleList(page, userId);
     }
 
     // TagService.java
@@ -66,38 +68,14 @@ public class TagService {
                 .toList();
     }
 
-    @Transactional(readOnly = true)
+    // 인기 태그: TagLeaderboard 스냅샷 (tag_stats 기반, 요청마다 집계하지 않음)
     public List<TagCountResponse> popularTags(int limit) {
         int lim = Math.max(1, Math.min(limit, 100));
-        return tagRepository.findPopularTags(lim).stream()
-                .map(row -> new TagCountResponse(
-                        (String) row[0],
-                        ((Number) row[1]).longValue()
-                ))
+        return tagLeaderboard.top(lim).stream()
+                .map(tc -> new TagCountResponse(tc.tag(), tc.count()))
                 .toList();
     }
 
-    /* ---- mapper ---- */
-    private PostResponse toResponse(Post p) {
-        return PostResponse.builder()
-                .id(p.getId())
-                .userId(p.getUser() != null ? p.getUser().getId() : null)
-                .visibility(p.getVisibility())
-                .title(p.getTitle())
-                .contentTxt(p.getContentTxt())
-                .contentJson(p.getContentJson())
-                .likesCount(p.getLikesCount())
-                .viewsCount(p.getViewsCount())
-                .deleted(p.isDeleted())
-                .goalId(p.getGoalId())
-                .postDate(p.getPostDate())
-                .createdAt(p.getCreatedAt())
-                .updatedAt(p.getUpdatedAt())
-                .tags(p.getTag() == null ? List.of()
-                        : p.getTag().stream().map(Tag::getTagName).toList())
-                .build();
-    }
-
     @Getter
     @AllArgsConstructor
     public static class TagCountResponse {
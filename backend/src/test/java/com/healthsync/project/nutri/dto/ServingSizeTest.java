@@ -0,0 +1,71 @@
+package com.healthsync.project.nutri.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 정규식 없는 스캐너 vs 예전 정규식(마지막 "숫자 g") */
+class ServingSizeTest {
+
+    private static final Pattern LEGACY = Pattern.compile("([0-9]+(?:\\.[0-9]+)?)\\s*g", Pattern.CASE_INSENSITIVE);
+
+    /** 예전 구현: 마지막 일치를 BigDecimal 로 (없으면 null) */
+    private static BigDecimal legacy(String s) {
+        Matcher m = LEGACY.matcher(s);
+        BigDecimal last = null;
+        while (m.find()) last = new BigDecimal(m.group(1));
+        return last;
+    }
+
+    // 입력 | 스캐너 기대값(g) | 예전 정규식 결과 (빈 칸 = 일치 없음)
+    @ParameterizedTest(name = "[{index}] \"{0}\" → {1}")
+    @CsvSource(delimiter = '|', value = {
+            // g: 예전 정규식과 같아야 함
+            "100g                    | 100     | 100",
+            "1회(30g)                | 30      | 30",
+            "1포(45 g)               | 45      | 45",
+            "1회 제공량(200 g)        | 200     | 200",
+            "2개(120G)               | 120     | 120",
+            "0.5g                    | 0.5     | 0.5",
+            "12.25 g                 | 12.25   | 12.25",
+            "1회 30g / 총 2회(60g)    | 60      | 60",
+            // 단위 확장: 예전에는 못 읽던 값
+            "1.5kg                   | 1500    | ",
+            "1.5KG                   | 1500    | ",
+            "500mg                   | 0.5     | ",
+            "100ml                   | 100     | ",
+            "250 ml                  | 250     | ",
+            // 단위 없음 / 깨진 입력
+            "1회 제공량               | NaN     | ",
+            "100                     | NaN     | ",
+            "12.g                    | NaN     | ",
+            "g                       | NaN     | ",
+            "abc                     | NaN     | ",
+            "30. g                   | NaN     | ",
+    })
+    void scanMatchesLegacy(String input, float expected, BigDecimal legacy) {
+        float actual = ServingSize.scan(input);
+        assertEquals(expected, actual, 1e-4f);
+        assertEquals(actual, ServingSize.grams(input), 0f); // memo 경유도 같은 값
+
+        BigDecimal old = legacy(input);
+        assertEquals(legacy, old, "legacy regex");
+        if (old != null) {
+            assertEquals(old.floatValue(), actual, 1e-4f);
+        }
+    }
+
+    @Test
+    void nullOrEmptyIsNone() {
+        assertTrue(Float.isNaN(ServingSize.grams(null)));
+        assertTrue(Float.isNaN(ServingSize.grams("")));
+        assertTrue(Float.isNaN(ServingSize.scan("")));
+    }
+}
@@ -0,0 +1,62 @@
+package com.healthsync.project.nutri.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompactTrieTest {
+
+    private static final String[] KEYS = {"apple", "app", "banana", "apricot", "app", "b", ""};
+
+    private final CompactTrie trie = new CompactTrie(KEYS);
+
+    /** prefix 구간의 키를 구간 순서대로 */
+    private List<String> withPrefix(CompactTrie t, String[] keys, String prefix) {
+        int[] r = t.prefixRange(prefix);
+        List<String> out = new ArrayList<>();
+        for (int pos = r[0]; pos < r[1]; pos++) out.add(keys[t.doc(pos)]);
+        return out;
+    }
+
+    @Test
+    void prefixRangeIsSortedContiguousBlock() {
+        assertEquals(List.of("app", "app", "apple", "apricot"), withPrefix(trie, KEYS, "ap"));
+        assertEquals(List.of("app", "app", "apple"), withPrefix(trie, KEYS, "app"));
+        assertEquals(List.of("apple"), withPrefix(trie, KEYS, "appl"));
+        assertEquals(List.of("b", "banana"), withPrefix(trie, KEYS, "b"));
+        assertEquals(List.of("banana"), withPrefix(trie, KEYS, "banana"));
+    }
+
+    @Test
+    void emptyPrefixEnumeratesAllInKeyOrder() {
+        assertEquals(List.of("", "app", "app", "apple", "apricot", "b", "banana"), withPrefix(trie, KEYS, ""));
+    }
+
+    @Test
+    void sameKeyKeepsDocOrder() {
+        int[] r = trie.prefixRange("app");
+        assertEquals(1, trie.doc(r[0]));
+        assertEquals(4, trie.doc(r[0] + 1));
+    }
+
+    @Test
+    void missingPrefixIsEmpty() {
+        assertEquals(List.of(), withPrefix(trie, KEYS, "x"));
+        assertEquals(List.of(), withPrefix(trie, KEYS, "applesauce"));
+        assertEquals(List.of(), withPrefix(trie, KEYS, "bb"));
+        assertEquals(List.of(), withPrefix(CompactTrie.EMPTY, new String[0], "a"));
+    }
+
+    @Test
+    void hangulJamoKeys() {
+        String[] keys = {Hangul.jamo("닭가슴살"), Hangul.jamo("달걀"), Hangul.jamo("두부")};
+        CompactTrie t = new CompactTrie(keys);
+        // "달" 입력 중: 닭(ㄷㅏㄹㄱ…)과 달걀(ㄷㅏㄹㄱㅕ…) 모두 접두 일치
+        assertEquals(List.of(keys[0], keys[1]), withPrefix(t, keys, Hangul.jamo("달")));
+        assertEquals(List.of(keys[0]), withPrefix(t, keys, Hangul.jamo("닭가")));
+        assertEquals(List.of(keys[2]), withPrefix(t, keys, Hangul.jamo("두")));
+    }
+}
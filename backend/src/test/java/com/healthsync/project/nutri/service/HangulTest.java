@@ -0,0 +1,66 @@
+package com.healthsync.project.nutri.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "가       | ㄱㅏ",
+            "닭       | ㄷㅏㄹㄱ",     // 겹받침 ㄺ
+            "값       | ㄱㅏㅂㅅ",     // 겹받침 ㅄ
+            "앉       | ㅇㅏㄴㅈ",     // 겹받침 ㄵ
+            "과       | ㄱㅗㅏ",       // 겹모음 ㅘ
+            "의       | ㅇㅡㅣ",       // 겹모음 ㅢ
+            "힣       | ㅎㅣㅎ",       // 마지막 음절
+            "라면     | ㄹㅏㅁㅕㄴ",
+            "A1 닭    | A1 ㄷㅏㄹㄱ",  // 한글 아닌 글자는 그대로
+            "ㄺ       | ㄹㄱ",         // 낱자로 입력된 겹자모도 같은 규칙
+            "ㅘ       | ㅗㅏ",
+            "ㄷ       | ㄷ",
+    })
+    void jamo(String input, String expected) {
+        assertEquals(expected, Hangul.jamo(input));
+    }
+
+    @Test
+    void typingSyllableIsPrefixOfCompoundFinal() {
+        // 입력 중인 "달" 이 "닭" 의 접두
+        assertTrue(Hangul.jamo("닭가슴살").startsWith(Hangul.jamo("달")));
+        assertTrue(Hangul.jamo("닭가슴살").startsWith(Hangul.jamo("닭ㄱ")));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "닭가슴살   | ㄷㄱㅅㅅ",
+            "까까       | ㄲㄲ",
+            "라면123    | ㄹㅁ123",
+            "Tofu 두부  | Tofu ㄷㅂ",
+    })
+    void chosung(String input, String expected) {
+        assertEquals(expected, Hangul.chosung(input));
+    }
+
+    @Test
+    void chosungQuery() {
+        assertTrue(Hangul.isChosungQuery("ㄷㄱㅅㅅ"));
+        assertFalse(Hangul.isChosungQuery("닭ㄱ"));
+        assertFalse(Hangul.isChosungQuery("ㄷㅏ"));
+        assertFalse(Hangul.isChosungQuery("ab"));
+        assertFalse(Hangul.isChosungQuery(""));
+    }
+
+    @Test
+    void syllableBounds() {
+        assertTrue(Hangul.isSyllable('가'));
+        assertTrue(Hangul.isSyllable('힣'));
+        assertFalse(Hangul.isSyllable('ㄱ'));
+        assertFalse(Hangul.isSyllable('a'));
+    }
+}
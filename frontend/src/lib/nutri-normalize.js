@@ -8,6 +8,6 @@ export function normalizeNutri(item) {
   const fat      = toNum(item.fatce || item.FAT   || item.NUTR_CONT4);
   const carbs    = toNum(item.chocdf|| item.CHO   || item.NUTR_CONT2);
   const sugar    = toNum(item.sugar || item.NUTR_CONT5);
-  const sodiumMg = toNum(item.na    || item.NA    || item.NUTR_CONT6);
+  const sodiumMg = toNum(item.nat   || item.na    || item.NA    || item.NUTR_CONT6); // nat: 식품영양성분DB/카탈로그
   return { name, kcal, protein, fat, carbs, sugar, sodiumMg, raw: item };
 }
\ No newline at end of file